@@ -71,6 +71,4 @@ $testngContent = @"
 ((Get-Content -Path "src/test/java/testng.xml" -Raw) -replace "</suite>", $testngContent).Trim() `
     | Set-Content -Path "src/test/java//testng.xml"
 
-((Get-Content -Path "src/main/java/aoc/App.java" -Raw) `
-    -replace "\(\)\)\;\r\n    }", "());`r`n        DAYS.put(${dayInt}, new Day${day}());`r`n    }").Trim() `
-    | Set-Content -Path "src/main/java/aoc/App.java"
\ No newline at end of file
+Add-Content -Path "src/main/resources/META-INF/services/aoc.common.Day" -Value "aoc.days.Day${day}"
@@ -0,0 +1,52 @@
+package aoc.bench;
+
+import aoc.common.Day;
+import aoc.common.DayRegistry;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+
+/**
+ * Helpers to resolve the day classes and puzzle inputs for the benchmarks.
+ */
+final class BenchmarkInput {
+    private BenchmarkInput() {}
+    
+    /**
+     * Gets the path to the real puzzle input of a given day.
+     *
+     * @param paddedDay Zero padded day, e.g. "01"
+     * @return Path to the input file
+     */
+    static Path getPath(final String paddedDay) {
+        return Paths.get("resources", "day%s.txt".formatted(paddedDay)); //NON-NLS
+    }
+    
+    /**
+     * Reads the real puzzle input of a given day.
+     *
+     * @param paddedDay Zero padded day, e.g. "01"
+     * @return Input lines
+     */
+    static List<String> getInput(final String paddedDay) {
+        try {
+            return Files.readAllLines(getPath(paddedDay));
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+    
+    /**
+     * Creates a new instance of a given day.
+     *
+     * @param paddedDay Zero padded day, e.g. "01"
+     * @return Day instance
+     */
+    static Day getDay(final String paddedDay) {
+        return DayRegistry.create(Integer.parseInt(paddedDay));
+    }
+}
@@ -0,0 +1,47 @@
+package aoc.bench;
+
+import aoc.common.Day;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of both parts of every day against the real puzzle inputs. The input is read once per trial, so only the
+ * day itself (including its own parsing of the lines) is measured, see {@link ParsedDayBenchmark} for parse and solve
+ * on their own.<br>
+ * Run a single day with {@code java -jar target/benchmarks.jar DayBenchmark -p day=16} and add {@code -prof gc} for
+ * the allocation rate.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class DayBenchmark {
+    @Param({
+            "01", "02", "03", "04", "05", "06", "07", "08", "09", "10", "11", "12", "13",
+            "14", "15", "16", "17", "18", "19", "20", "21", "22", "23", "24", "25",
+    })
+    public String day;
+    
+    private Day          instance;
+    private List<String> input;
+    
+    @Setup(Level.Trial)
+    public void setup() {
+        instance = BenchmarkInput.getDay(day);
+        input = BenchmarkInput.getInput(day);
+    }
+    
+    @Benchmark
+    public Object part1() {
+        return instance.part1(input);
+    }
+    
+    @Benchmark
+    public Object part2() {
+        return instance.part2(input);
+    }
+}
@@ -0,0 +1,39 @@
+package aoc.bench;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Input-only benchmark: reading and decoding the real puzzle input of every day into lines, the step every run pays
+ * before any day starts.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class InputBenchmark {
+    @Param({
+            "01", "02", "03", "04", "05", "06", "07", "08", "09", "10", "11", "12", "13",
+            "14", "15", "16", "17", "18", "19", "20", "21", "22", "23", "24", "25",
+    })
+    public String day;
+    
+    private Path path;
+    
+    @Setup(Level.Trial)
+    public void setup() {
+        path = BenchmarkInput.getPath(day);
+    }
+    
+    @Benchmark
+    public List<String> readAllLines() throws IOException {
+        return Files.readAllLines(path);
+    }
+}
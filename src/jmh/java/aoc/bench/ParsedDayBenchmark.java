@@ -0,0 +1,49 @@
+package aoc.bench;
+
+import aoc.common.ParsedDay;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Parse-only and solve-only benchmarks for the days with an explicit parse stage ({@link ParsedDay}). The solve
+ * benchmarks reuse the model parsed once per trial.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class ParsedDayBenchmark {
+    @Param({"08", "12", "15", "16", "17", "18", "19", "20", "22", "24"})
+    public String day;
+    
+    private ParsedDay<Object> instance;
+    private List<String>      input;
+    private Object            model;
+    
+    @Setup(Level.Trial)
+    public void setup() {
+        //noinspection unchecked
+        instance = (ParsedDay<Object>) BenchmarkInput.getDay(day);
+        input = BenchmarkInput.getInput(day);
+        model = instance.parse(input);
+    }
+    
+    @Benchmark
+    public Object parse() {
+        return instance.parse(input);
+    }
+    
+    @Benchmark
+    public Object solvePart1() {
+        return instance.solvePart1(model);
+    }
+    
+    @Benchmark
+    public Object solvePart2() {
+        return instance.solvePart2(model);
+    }
+}
@@ -0,0 +1,4 @@
+/**
+ * AoC JMH benchmarks
+ */
+package aoc.bench;
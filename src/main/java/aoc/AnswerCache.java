@@ -0,0 +1,235 @@
+package aoc;
+
+import aoc.common.Day;
+import aoc.common.ModelCodec;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HexFormat;
+
+/**
+ * File based cache of answers, so re-running a day on an unchanged input only costs reading its input once.<br>
+ * Answers are keyed by a SHA-256 over the input bytes and the bytecode of the day class (including its nested
+ * classes), so editing a day invalidates its answers. Changes in shared code (e.g. {@code aoc.common}) are not part of
+ * the key, use {@link #clear()} after such changes.<br>
+ * With the same key, the cache also stores the parsed models of days with a {@link ModelCodec}. A stored model is
+ * memory-mapped and decoded instead of parsing the input again, which still pays off when the answers themselves are
+ * not cached (e.g. a part was stopped, or answers are disabled to measure the solving).
+ */
+final class AnswerCache {
+    private final Path    directory;
+    private final boolean answers;
+    
+    /**
+     * Creates a cache of answers and models in the given directory, which is created on the first write.
+     *
+     * @param directory Directory of the cache files
+     */
+    AnswerCache(final Path directory) {
+        this(directory, true);
+    }
+    
+    /**
+     * Creates a cache in the given directory, which is created on the first write.
+     *
+     * @param directory Directory of the cache files
+     * @param answers   False to only cache the models, answers are then neither read nor written
+     */
+    AnswerCache(final Path directory, final boolean answers) {
+        this.directory = directory;
+        this.answers = answers;
+    }
+    
+    /**
+     * Computes the cache key of a day and its input.
+     *
+     * @param day      Day number
+     * @param instance Day instance, whose class is hashed
+     * @param input    Path to the input file
+     * @return Cache key
+     * @throws IOException If an I/O error occurs
+     */
+    String key(final int day, final Day instance, final Path input) throws IOException {
+        final var digest = getDigest();
+        
+        try (final var stream = new DigestInputStream(Files.newInputStream(input), digest)) {
+            stream.transferTo(OutputStream.nullOutputStream());
+        }
+        
+        // The strategies of a day share its nest, so the name tells them apart.
+        digest.update(instance.getClass().getName().getBytes(StandardCharsets.UTF_8));
+        
+        final var classes = instance.getClass().getNestMembers();
+        Arrays.sort(classes, Comparator.comparing(Class::getName));
+        
+        for (final var type : classes) {
+            try (final var bytecode = getBytecode(type)) {
+                digest.update(bytecode.readAllBytes());
+            }
+        }
+        
+        return "day%02d-%s".formatted(day, HexFormat.of().formatHex(digest.digest()));
+    }
+    
+    /**
+     * Gets a cached answer.
+     *
+     * @param key  Cache key
+     * @param part Part number (1 or 2)
+     * @return Answer or null if not cached
+     */
+    @Nullable String get(final String key, final int part) {
+        if (!answers) {
+            return null;
+        }
+        try {
+            return Files.readString(getPath(key, part), StandardCharsets.UTF_8);
+        } catch (final NoSuchFileException e) {
+            return null;
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+    
+    /**
+     * Stores an answer. The file is written completely before it becomes visible, so concurrent runs never read a
+     * partial answer.
+     *
+     * @param key    Cache key
+     * @param part   Part number (1 or 2)
+     * @param answer Answer
+     */
+    void put(final String key, final int part, final Object answer) {
+        if (!answers) {
+            return;
+        }
+        try {
+            Files.createDirectories(directory);
+            
+            final var temp = Files.createTempFile(directory, key, ".tmp");
+            Files.writeString(temp, String.valueOf(answer), StandardCharsets.UTF_8);
+            Files.move(temp, getPath(key, part), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+    
+    /**
+     * Loads a stored model by memory-mapping its file. A broken file is deleted, so the model is parsed and stored
+     * again.
+     *
+     * @param key   Cache key
+     * @param codec Binary format of the model
+     * @param <T>   Type of the model
+     * @return Model or null if not stored
+     */
+    <T> @Nullable T getModel(final String key, final ModelCodec<T> codec) {
+        final var path = getModelPath(key);
+        
+        try (final var channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            final var buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0L, channel.size());
+            final var model  = codec.read(buffer);
+            
+            if (buffer.hasRemaining()) {
+                throw new IllegalStateException("%d bytes left".formatted(buffer.remaining()));
+            }
+            
+            return model;
+        } catch (final NoSuchFileException e) {
+            return null;
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        } catch (final RuntimeException e) {
+            try {
+                Files.deleteIfExists(path);
+            } catch (final IOException deleteFailure) {
+                e.addSuppressed(deleteFailure);
+            }
+            return null;
+        }
+    }
+    
+    /**
+     * Stores a model, like {@link #put(String, int, Object)} the file only becomes visible when complete.
+     *
+     * @param key   Cache key
+     * @param codec Binary format of the model
+     * @param model Parsed model
+     * @param <T>   Type of the model
+     */
+    <T> void putModel(final String key, final ModelCodec<T> codec, final T model) {
+        try {
+            Files.createDirectories(directory);
+            
+            final var temp = Files.createTempFile(directory, key, ".tmp");
+            
+            try (final var out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)))) {
+                codec.write(model, out);
+            }
+            Files.move(temp, getModelPath(key), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+    
+    /**
+     * Removes all cached answers.
+     *
+     * @throws IOException If an I/O error occurs
+     */
+    void clear() throws IOException {
+        if (!Files.isDirectory(directory)) {
+            return;
+        }
+        
+        try (final var files = Files.list(directory)) {
+            for (final var file : files.toList()) {
+                Files.delete(file);
+            }
+        }
+    }
+    
+    private Path getPath(final String key, final int part) {
+        return directory.resolve("%s.part%d".formatted(key, part));
+    }
+    
+    private Path getModelPath(final String key) {
+        return directory.resolve("%s.model".formatted(key));
+    }
+    
+    private static InputStream getBytecode(final Class<?> type) throws IOException {
+        final var name     = type.getName();
+        final var resource = type.getResourceAsStream(name.substring(name.lastIndexOf('.') + 1) + ".class");
+        
+        if (resource == null) {
+            throw new IOException("Bytecode of %s not found".formatted(name));
+        }
+        
+        return resource;
+    }
+    
+    private static MessageDigest getDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (final NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
@@ -1,66 +1,568 @@
 package aoc;
 
 import aoc.common.Day;
-import aoc.days.*;
+import aoc.common.DayRegistry;
+import aoc.common.Input;
+import aoc.common.ModelCodec;
+import aoc.common.ParsedDay;
+import aoc.common.PhaseEvent;
+import aoc.common.SolveContext;
+import aoc.common.StreamingDay;
+import aoc.generators.Generators;
+import org.jetbrains.annotations.Nullable;
 
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.nio.file.Files;
+import java.nio.file.Path;
 import java.nio.file.Paths;
-import java.util.HashMap;
-import java.util.Map;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Function;
+import java.util.function.Supplier;
 
 /**
  * Advent of Code 2022
  */
 @SuppressWarnings("HardCodedStringLiteral")
 final class App {
-    private static final Map<Integer, Day> DAYS;
-    
-    static {
-        DAYS = new HashMap<>();
-        DAYS.put(1, new Day01());
-        DAYS.put(2, new Day02());
-        DAYS.put(3, new Day03());
-        DAYS.put(4, new Day04());
-        DAYS.put(5, new Day05());
-        DAYS.put(6, new Day06());
-        DAYS.put(7, new Day07());
-        DAYS.put(8, new Day08());
-        DAYS.put(9, new Day09());
-        DAYS.put(10, new Day10());
-        DAYS.put(11, new Day11());
-        DAYS.put(12, new Day12());
-        DAYS.put(13, new Day13());
-        DAYS.put(14, new Day14());
-        DAYS.put(15, new Day15());
-        DAYS.put(16, new Day16());
-        DAYS.put(17, new Day17());
-        DAYS.put(18, new Day18());
-        DAYS.put(19, new Day19());
-        DAYS.put(20, new Day20());
-        DAYS.put(21, new Day21());
-        DAYS.put(22, new Day22());
-        DAYS.put(23, new Day23());
-        DAYS.put(24, new Day24());
-        DAYS.put(25, new Day25());
-    }
+    private static final Duration PROFILE_INTERVAL = Duration.ofMillis(5L);
     
     /**
      * Main entry point
      *
-     * @param args Command line arguments
+     * @param args Command line arguments: a day number or {@code all} to solve all days in parallel, optionally
+     *             {@code --metrics[=file]} to append the metrics of each part as JSON lines (default: metrics.jsonl)
+     *             and {@code --input=dir} to read the inputs from another directory (default: resources). Answers
+     *             are cached in {@code cache}, {@code --no-cache} bypasses and {@code --clear-cache} empties it.
+     *             The cache also keeps the parsed models of days with a {@link ModelCodec}, {@code --no-answer-cache}
+     *             only uses those and solves the parts again.
+     *             {@code --timeout=ms} stops each part after the given time and {@code --progress} reports the
+     *             progress of long-running parts on stderr. {@code --profile[=dir]} samples each part and writes its
+     *             collapsed stacks to {@code dayNN-partN.collapsed} (default: profiles, in batch mode prefixed with
+     *             the name of the input file). {@code --strategy=name}
+     *             solves a single day or batch with another of its {@link Day#strategies()}.<br>
+     *             {@code ab <day>} solves the input with every strategy of the day, checks that they agree and
+     *             compares their median times, optionally with {@code --runs=n} (default: 5).<br>
+     *             {@code scale <day|all>} measures the parts on generated inputs of growing scale and fits their
+     *             growth exponent (see {@link ScalingHarness}), optionally with {@code --max=n} (default: 64),
+     *             {@code --runs=n} (default: 3), {@code --seed=n} and {@code --budget=ms} (default: 5000).<br>
+     *             {@code batch <day> <dir|glob>} solves all matching input files of a day concurrently, optionally
+     *             with {@code --threads=n} (default: available processors).<br>
+     *             {@code serve} keeps the days warm in a local HTTP server (see {@link SolverServer}), optionally
+     *             with {@code --port=n} (default: 8022), {@code --threads=n} and {@code --timeout=ms}.<br>
+     *             {@code generate <day|all>} writes generated inputs instead, optionally with {@code --scale=n}
+     *             (default: 1), {@code --seed=n} (default: 2022) and {@code --out=dir} (default: generated)
      * @throws IOException If an I/O error occurs
+     * @throws InterruptedException If interrupted while waiting for the days to finish
      */
-    public static void main(final String[] args) throws IOException {
-        final var day = args.length > 0 ? Integer.parseInt(args[0]) : DAYS.size();
+    public static void main(final String[] args) throws IOException, InterruptedException {
+        final var options = Options.parse(args);
+        
+        if (options.get(0, "").equals("generate")) {
+            generate(options);
+            return;
+        }
+        if (options.get(0, "").equals("serve")) {
+            serve(options);
+            return;
+        }
+        if (options.get(0, "").equals("scale")) {
+            measureScaling(options);
+            return;
+        }
+        if (options.get(0, "").equals("ab")) {
+            final var day = Integer.parseInt(options.get(1, String.valueOf(DayRegistry.days().last())));
+            
+            compareStrategies(day, getInputPath(Paths.get(options.get("input", "resources")), day),
+                              Integer.parseInt(options.get("runs", "5")));
+            return;
+        }
+        
+        final var inputs  = Paths.get(options.get("input", "resources"));
+        final var parts   = PartOptions.of(options);
+        final var cache   = options.has("no-cache")
+                            ? null
+                            : new AnswerCache(Paths.get("cache"), !options.has("no-answer-cache"));
+        final var metrics = options.has("metrics")
+                            ? new MetricsWriter(Paths.get(options.get("metrics", "metrics.jsonl")))
+                            : null;
+        
+        if (options.has("clear-cache")) {
+            new AnswerCache(Paths.get("cache")).clear();
+        }
         
+        try {
+            if (options.get(0, "").equals("all")) {
+                runAll(inputs, parts.withoutStrategy(), cache, metrics);
+            } else if (options.get(0, "").equals("batch")) {
+                final var threads = options.get("threads", String.valueOf(Runtime.getRuntime().availableProcessors()));
+                
+                runBatch(Integer.parseInt(options.get(1, "")), options.get(2, inputs.toString()),
+                         Integer.parseInt(threads), parts, cache, metrics);
+            } else {
+                runDay(Integer.parseInt(options.get(0, String.valueOf(DayRegistry.days().last()))), inputs, parts,
+                       cache, metrics);
+            }
+        } finally {
+            if (metrics != null) {
+                metrics.close();
+            }
+        }
+    }
+    
+    private static void runDay(final int day, final Path inputs, final PartOptions parts,
+                               final @Nullable AnswerCache cache, final @Nullable MetricsWriter metrics)
+            throws IOException {
         System.out.printf("\033[1mAoC 2022 - Day %d\033[0m%n", day);
         
+        for (final var result : solve(day, getInputPath(inputs, day), parts, cache)) {
+            System.out.printf("Part %d: %s%n", result.part(), result.result());
+            
+            if (metrics != null) {
+                metrics.write(result);
+            }
+        }
+    }
+    
+    /**
+     * Solves both parts of a day one after the other.
+     */
+    private static List<PartResult> solve(final int day, final Path path, final PartOptions parts,
+                                          final @Nullable AnswerCache cache) throws IOException {
+        return prepareParts(day, path, parts, cache).stream().map(Supplier::get).toList();
+    }
+    
+    /**
+     * Prepares a day and returns its two parts, which share the prepared input and may run concurrently. If both
+     * answers are cached, the input is neither prepared nor solved, otherwise the new answers are cached (failed and
+     * stopped parts are not). The input is prepared from its cached model if the day has one.
+     */
+    private static List<Supplier<PartResult>> prepareParts(final int day, final Path path, final PartOptions parts,
+                                                           final @Nullable AnswerCache cache) throws IOException {
+        final var instance = parts.strategy() == null ? DayRegistry.create(day)
+                                                      : DayRegistry.create(day, parts.strategy());
+        
+        if (cache == null) {
+            final var prepared = prepare(path, instance);
+            
+            return List.of(() -> DayRunner.run(day, 1, () -> parts.solve(day, 1, prepared::part1)),
+                           () -> DayRunner.run(day, 2, () -> parts.solve(day, 2, prepared::part2)));
+        }
+        
+        final var key     = cache.key(day, instance, path);
+        final var answer1 = cache.get(key, 1);
+        final var answer2 = cache.get(key, 2);
+        
+        if (answer1 != null && answer2 != null) {
+            return List.of(() -> DayRunner.run(day, 1, () -> answer1), () -> DayRunner.run(day, 2, () -> answer2));
+        }
+        
+        final var prepared = instance instanceof ParsedDay<?> parsedDay && parsedDay.codec() != null
+                             ? prepareCached(cache, key, parsedDay, path)
+                             : prepare(path, instance);
+        
+        return List.of(
+                () -> DayRunner.run(day, 1, () -> cached(cache, key, 1, parts.solve(day, 1, prepared::part1))),
+                () -> DayRunner.run(day, 2, () -> cached(cache, key, 2, parts.solve(day, 2, prepared::part2))));
+    }
+    
+    private static Object cached(final AnswerCache cache, final String key, final int part, final Object answer) {
+        cache.put(key, part, answer);
+        return answer;
+    }
+    
+    /**
+     * Prepares a parsed day from its cached model, or parses the input and caches the model for the next run.
+     */
+    @SuppressWarnings("try")
+    private static <T> Day.Prepared prepareCached(final AnswerCache cache, final String key, final ParsedDay<T> day,
+                                                  final Path path) throws IOException {
+        final var codec = Objects.requireNonNull(day.codec());
+        
+        T model;
+        
+        try (final var ignored = PhaseEvent.start(day.getClass(), "decode")) {
+            model = cache.getModel(key, codec);
+        }
+        if (model == null) {
+            try (final var ignored = PhaseEvent.start(day.getClass(), "parse")) {
+                model = day.parse(Input.map(path).lines());
+            }
+            cache.putModel(key, codec, model);
+        }
+        
+        return day.prepareModel(model);
+    }
+    
+    private static Path getInputPath(final Path inputs, final int day) {
         final var paddedDay = "%02d".formatted(day);
-        final var path      = Paths.get("resources", "day%s.txt".formatted(paddedDay));
-        final var input     = Files.readAllLines(path);
         
-        System.out.printf("Part 1: %s%n", DAYS.get(day).part1(input));
-        System.out.printf("Part 2: %s%n", DAYS.get(day).part2(input));
+        return inputs.resolve("day%s.txt".formatted(paddedDay));
+    }
+    
+    /**
+     * Prepares the input of a day. Streaming days read their file line by line in each part (constant memory), all
+     * others get the memory-mapped input.
+     */
+    static Day.Prepared prepare(final Path path, final Day instance) throws IOException {
+        if (instance instanceof StreamingDay streamingDay) {
+            return streamingDay.prepare(path);
+        }
+        
+        return instance.prepare(Input.map(path));
+    }
+    
+    /**
+     * Solves an input with every strategy of a day (from scratch, including the preparation) and prints the median
+     * time of each part relative to the reference strategy. A strategy which disagrees with the reference is marked.
+     */
+    private static void compareStrategies(final int day, final Path path, final int runs) {
+        final var strategies = DayRegistry.create(day).strategies();
+        final var names      = strategies.keySet()
+                                         .stream()
+                                         .sorted(Comparator.comparing((String name) -> !name.equals(Day.REFERENCE))
+                                                           .thenComparing(Comparator.naturalOrder()))
+                                         .toList();
+        
+        System.out.printf("\033[1mAoC 2022 - Day %d, %d strategies, %d runs\033[0m%n", day, names.size(), runs);
+        System.out.printf("%-12s %-5s %10s %9s  %s%n", "Strategy", "Part", "Median ms", "Relative", "Result");
+        
+        var agree = true;
+        
+        for (var part = 1; part <= 2; part++) {
+            var referenceTime   = 0L;
+            var referenceResult = "";
+            
+            for (final var name : names) {
+                final var instance = strategies.get(name);
+                final var times    = new long[runs];
+                var       result   = "";
+                
+                for (var run = 0; run < runs; run++) {
+                    final var partResult = DayRunner.run(day, part, solveFromScratch(path, instance, part));
+                    times[run] = partResult.wallTime();
+                    result = String.valueOf(partResult.result());
+                }
+                
+                Arrays.sort(times);
+                
+                final var median = times[runs / 2];
+                
+                if (name.equals(Day.REFERENCE)) {
+                    referenceTime = median;
+                    referenceResult = result;
+                }
+                
+                final var same = result.equals(referenceResult);
+                agree &= same;
+                
+                System.out.printf("%-12s %-5d %10.1f %8.2fx  %s%s%n",
+                                  name,
+                                  part,
+                                  median / 1_000_000.0,
+                                  (double) median / Math.max(referenceTime, 1L),
+                                  result.contains("\n") ? "" : result,
+                                  same ? "" : " (MISMATCH)"
+                );
+            }
+        }
+        
+        System.out.println(agree ? "All strategies agree" : "Strategies disagree with the reference");
+    }
+    
+    private static Supplier<Object> solveFromScratch(final Path path, final Day instance, final int part) {
+        return () -> {
+            try {
+                final var prepared = prepare(path, instance);
+                return part == 1 ? prepared.part1() : prepared.part2();
+            } catch (final IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        };
+    }
+    
+    /**
+     * Solves all days concurrently on a pool bounded by the available processors. Each day is prepared once, then its
+     * two parts run as separate tasks on the same prepared input.
+     */
+    private static void runAll(final Path inputs, final PartOptions parts, final @Nullable AnswerCache cache,
+                               final @Nullable MetricsWriter metrics) throws InterruptedException {
+        System.out.printf("\033[1mAoC 2022 - All days\033[0m%n");
+        
+        final var wallStart = System.nanoTime();
+        final var executor  = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors());
+        final var futures   = new ArrayList<Future<PartResult>>();
+        
+        for (final var day : DayRegistry.days()) {
+            final var prepared = CompletableFuture.supplyAsync(() -> {
+                try {
+                    return prepareParts(day, getInputPath(inputs, day), parts, cache);
+                } catch (final IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }, executor);
+            
+            futures.add(prepared.thenApplyAsync(dayParts -> dayParts.get(0).get(), executor));
+            futures.add(prepared.thenApplyAsync(dayParts -> dayParts.get(1).get(), executor));
+        }
+        
+        final var results = new ArrayList<PartResult>();
+        
+        // The parts are only submitted once their day is prepared, so the pool is shut down after all of them finished.
+        try {
+            for (final var future : futures) {
+                try {
+                    results.add(future.get());
+                } catch (final ExecutionException e) {
+                    System.out.printf("Failed: %s%n", e.getCause().getMessage());
+                }
+            }
+        } finally {
+            executor.shutdown();
+        }
+        
+        final var wallTime = System.nanoTime() - wallStart;
+        final var cpuTime  = results.stream().mapToLong(PartResult::cpuTime).sum();
+        
+        System.out.printf("%-4s %-5s %10s %10s %10s  %s%n", "Day", "Part", "Wall ms", "CPU ms", "Alloc MB", "Result");
+        results.forEach(App::printResult);
+        
+        if (metrics != null) {
+            results.forEach(metrics::write);
+        }
+        
+        System.out.printf("Total: %d ms wall, %d ms CPU%n", wallTime / 1_000_000L, cpuTime / 1_000_000L);
+    }
+    
+    /**
+     * Solves many inputs of the same day concurrently and prints the results in the order they finish. Each input is
+     * solved by its own day instance, so the days must not share state between instances.
+     */
+    private static void runBatch(final int day, final String pattern, final int threads, final PartOptions parts,
+                                 final @Nullable AnswerCache cache, final @Nullable MetricsWriter metrics)
+            throws IOException, InterruptedException {
+        final var files = findInputs(pattern);
+        
+        System.out.printf("\033[1mAoC 2022 - Day %d, %d inputs\033[0m%n", day, files.size());
+        
+        final var wallStart  = System.nanoTime();
+        final var executor   = Executors.newFixedThreadPool(threads);
+        final var completion = new ExecutorCompletionService<BatchResult>(executor);
+        
+        for (final var file : files) {
+            completion.submit(() -> new BatchResult(file, solve(day, file, parts.forInput(file), cache)));
+        }
+        
+        executor.shutdown();
+        
+        var cpuTime = 0L;
+        
+        for (var i = 0; i < files.size(); i++) {
+            try {
+                final var batchResult = completion.take().get();
+                
+                for (final var result : batchResult.results()) {
+                    final var text = String.valueOf(result.result());
+                    
+                    System.out.printf("%s part %d: %s (%.1f ms wall, %.1f ms CPU)%n",
+                                      batchResult.input(),
+                                      result.part(),
+                                      text.contains("\n") ? "" : text,
+                                      result.wallTime() / 1_000_000.0,
+                                      result.cpuTime() / 1_000_000.0
+                    );
+                    if (text.contains("\n")) {
+                        System.out.println(text.strip());
+                    }
+                    if (metrics != null) {
+                        metrics.write(result);
+                    }
+                    cpuTime += result.cpuTime();
+                }
+            } catch (final ExecutionException e) {
+                System.out.printf("Failed: %s%n", e.getCause().getMessage());
+            }
+        }
+        
+        final var wallTime = System.nanoTime() - wallStart;
+        
+        System.out.printf("Total: %d inputs, %d ms wall, %d ms CPU%n", files.size(), wallTime / 1_000_000L,
+                          cpuTime / 1_000_000L);
+    }
+    
+    /**
+     * Finds the input files of a batch: all files of a directory, or the files matching a glob in its last path
+     * segment (e.g. {@code generated/day16-*.txt}).
+     */
+    private static List<Path> findInputs(final String pattern) throws IOException {
+        if (Files.isDirectory(Paths.get(pattern))) {
+            try (final var files = Files.list(Paths.get(pattern))) {
+                return files.filter(Files::isRegularFile).sorted().toList();
+            }
+        }
+        
+        final var separator = Math.max(pattern.lastIndexOf('/'), pattern.lastIndexOf('\\'));
+        final var directory = separator < 0 ? Paths.get("") : Paths.get(pattern.substring(0, separator));
+        final var matcher   = directory.getFileSystem().getPathMatcher("glob:" + pattern.substring(separator + 1));
+        
+        try (final var files = Files.list(directory.toAbsolutePath())) {
+            return files.filter(file -> Files.isRegularFile(file) && matcher.matches(file.getFileName()))
+                        .map(file -> directory.resolve(file.getFileName()))
+                        .sorted()
+                        .toList();
+        }
+    }
+    
+    /**
+     * Starts the solver server, which runs until the JVM is terminated.
+     */
+    private static void serve(final Options options) throws IOException {
+        final var threads = options.get("threads", String.valueOf(Runtime.getRuntime().availableProcessors()));
+        final var server  = new SolverServer(Integer.parseInt(options.get("port", "8022")), Integer.parseInt(threads),
+                                             PartOptions.of(options).timeout());
+        
+        Runtime.getRuntime().addShutdownHook(new Thread(server::stop));
+        server.start();
+        
+        System.out.printf("Listening on http://localhost:%d/day/{n}/part/{p}%n", server.getPort());
+    }
+    
+    /**
+     * Measures the growth of the parts of one or all days with generated inputs and prints the fitted exponents.
+     * Parts above {@link ScalingHarness#SUPERLINEAR} are marked.
+     */
+    private static void measureScaling(final Options options) throws IOException {
+        final var target  = options.get(1, "all");
+        final var days    = target.equals("all") ? Generators.days() : List.of(Integer.parseInt(target));
+        final var harness = new ScalingHarness(Integer.parseInt(options.get("max", "64")),
+                                               Integer.parseInt(options.get("runs", "3")),
+                                               Long.parseLong(options.get("seed", "2022")),
+                                               Duration.ofMillis(Long.parseLong(options.get("budget", "5000"))));
+        final var flagged = new ArrayList<String>();
+        
+        for (final var day : days) {
+            System.out.printf("\033[1mAoC 2022 - Day %d scaling\033[0m%n", day);
+            System.out.printf("%-5s %6s %10s %13s%n", "Part", "Scale", "Median ms", "Allocated MB");
+            
+            for (final var curve : harness.measure(day)) {
+                for (final var point : curve.points()) {
+                    System.out.printf("%-5d %6d %10.1f %13.1f%n", curve.part(), point.scale(),
+                                      point.wallTime() / 1_000_000.0, point.allocatedBytes() / 1_048_576.0);
+                }
+                
+                System.out.printf("Part %d: time ~ scale^%.2f, allocation ~ scale^%.2f%s%n", curve.part(),
+                                  curve.timeExponent(), curve.allocationExponent(),
+                                  curve.isSuperlinear() ? " (SUPERLINEAR)" : "");
+                
+                if (curve.isSuperlinear()) {
+                    flagged.add("%d.%d".formatted(day, curve.part()));
+                }
+            }
+        }
+        
+        System.out.println(flagged.isEmpty() ? "No superlinear parts" : "Superlinear parts: " + flagged);
+    }
+    
+    /**
+     * Writes generated inputs, named like the real ones, so they can be solved with {@code --input=dir}.
+     */
+    private static void generate(final Options options) throws IOException {
+        final var target = options.get(1, "all");
+        final var days   = target.equals("all") ? Generators.days() : List.of(Integer.parseInt(target));
+        final var scale  = Integer.parseInt(options.get("scale", "1"));
+        final var seed   = Long.parseLong(options.get("seed", "2022"));
+        final var out    = Paths.get(options.get("out", "generated"));
+        
+        Files.createDirectories(out);
+        
+        for (final var day : days) {
+            final var path = getInputPath(out, day);
+            
+            Generators.get(day).write(path, scale, seed);
+            System.out.printf("Day %d: %s (scale %d, seed %d)%n", day, path, scale, seed);
+        }
+    }
+    
+    private record BatchResult(Path input, List<PartResult> results) {}
+    
+    /**
+     * Strategy, deadline, progress reporting and profiling of the parts. A fresh {@link SolveContext} (and profiler)
+     * is created when a part starts. The profiles of a batch are prefixed with their input, as its inputs are solved
+     * concurrently.
+     */
+    private record PartOptions(@Nullable String strategy, @Nullable Duration timeout, boolean progress,
+                               @Nullable Path profiles, @Nullable String input) {
+        static PartOptions of(final Options options) {
+            final var timeout  = options.has("timeout") ? Duration.ofMillis(Long.parseLong(options.get("timeout", "")))
+                                                        : null;
+            final var profiles = options.has("profile") ? Paths.get(options.get("profile", "profiles")) : null;
+            
+            return new PartOptions(options.has("strategy") ? options.get("strategy", "") : null, timeout,
+                                   options.has("progress"), profiles, null);
+        }
+        
+        // Only some days have other strategies, so all days are always solved with their reference.
+        PartOptions withoutStrategy() {
+            return new PartOptions(null, timeout, progress, profiles, input);
+        }
+        
+        PartOptions forInput(final Path file) {
+            final var name = file.getFileName().toString();
+            final var dot  = name.lastIndexOf('.');
+            
+            return new PartOptions(strategy, timeout, progress, profiles, dot > 0 ? name.substring(0, dot) : name);
+        }
+        
+        Object solve(final int day, final int part, final Function<SolveContext, Object> solver) {
+            final var context = new SolveContext(timeout, progress ? (metric, value) -> System.err.printf(
+                    "Day %d part %d: %d %s%n", day, part, value, metric) : null);
+            
+            if (profiles == null) {
+                return solver.apply(context);
+            }
+            
+            final var profiler = new SamplingProfiler(Thread.currentThread(), PROFILE_INTERVAL);
+            
+            try {
+                return solver.apply(context);
+            } finally {
+                profiler.close();
+                try {
+                    Files.createDirectories(profiles);
+                    final var name = "day%02d-part%d.collapsed".formatted(day, part);
+                    
+                    profiler.write(profiles.resolve(input == null ? name : input + '-' + name));
+                } catch (final IOException e) {
+                    System.err.printf("Profile of day %d part %d not written: %s%n", day, part, e.getMessage());
+                }
+            }
+        }
+    }
+    
+    private static void printResult(final PartResult result) {
+        final var text = String.valueOf(result.result());
+        
+        // Multi-line results (e.g. the CRT of day 10) are printed below their row.
+        System.out.printf("%-4d %-5d %10.1f %10.1f %10.1f  %s%n",
+                          result.day(),
+                          result.part(),
+                          result.wallTime() / 1_000_000.0,
+                          result.cpuTime() / 1_000_000.0,
+                          result.allocatedBytes() / (1024.0 * 1024.0),
+                          text.contains("\n") ? "" : text
+        );
+        if (text.contains("\n")) {
+            System.out.println(text.strip());
+        }
     }
 }
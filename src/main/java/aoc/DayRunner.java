@@ -0,0 +1,77 @@
+package aoc;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Runs a single part of a day on the current thread and measures it.
+ */
+final class DayRunner {
+    private static final com.sun.management.ThreadMXBean THREAD_MX_BEAN =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+    
+    private static final List<GarbageCollectorMXBean> GC_MX_BEANS = ManagementFactory.getGarbageCollectorMXBeans();
+    
+    private static final List<MemoryPoolMXBean> HEAP_POOLS = ManagementFactory.getMemoryPoolMXBeans()
+                                                                              .stream()
+                                                                              .filter(pool -> pool.getType() ==
+                                                                                              MemoryType.HEAP)
+                                                                              .toList();
+    
+    private DayRunner() {}
+    
+    /**
+     * Runs a part and records its metrics, and a {@link PartEvent} for the flight recorder. Exceptions of the part are
+     * reported as result.
+     *
+     * @param day    Day number
+     * @param part   Part number (1 or 2)
+     * @param solver The part to solve
+     * @return Result of the part including its metrics
+     */
+    static PartResult run(final int day, final int part, final Supplier<Object> solver) {
+        HEAP_POOLS.forEach(MemoryPoolMXBean::resetPeakUsage);
+        
+        final var gcCountStart   = getGcCount();
+        final var gcTimeStart    = getGcTime();
+        final var allocatedStart = THREAD_MX_BEAN.getCurrentThreadAllocatedBytes();
+        final var cpuStart       = THREAD_MX_BEAN.getCurrentThreadCpuTime();
+        final var wallStart      = System.nanoTime();
+        final var event          = new PartEvent();
+        
+        event.day = day;
+        event.part = part;
+        event.begin();
+        
+        Object result;
+        
+        try {
+            result = solver.get();
+        } catch (final RuntimeException e) {
+            result = "%s: %s".formatted(e.getClass().getSimpleName(), e.getMessage());
+        }
+        
+        event.commit();
+        
+        final var wallTime  = System.nanoTime() - wallStart;
+        final var cpuTime   = THREAD_MX_BEAN.getCurrentThreadCpuTime() - cpuStart;
+        final var allocated = THREAD_MX_BEAN.getCurrentThreadAllocatedBytes() - allocatedStart;
+        final var gcCount   = getGcCount() - gcCountStart;
+        final var gcTime    = getGcTime() - gcTimeStart;
+        final var peakHeap  = HEAP_POOLS.stream().mapToLong(pool -> pool.getPeakUsage().getUsed()).sum();
+        
+        return new PartResult(day, part, result, wallTime, cpuTime, allocated, gcCount, gcTime, peakHeap);
+    }
+    
+    private static long getGcCount() {
+        return GC_MX_BEANS.stream().mapToLong(GarbageCollectorMXBean::getCollectionCount).filter(c -> c > 0).sum();
+    }
+    
+    private static long getGcTime() {
+        return GC_MX_BEANS.stream().mapToLong(GarbageCollectorMXBean::getCollectionTime).filter(t -> t > 0).sum();
+    }
+}
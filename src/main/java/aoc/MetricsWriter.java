@@ -0,0 +1,65 @@
+package aoc;
+
+import com.google.gson.JsonObject;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Appends {@link PartResult} metrics as JSON lines (one JSON object per line) to a file.
+ */
+final class MetricsWriter implements Closeable {
+    private final BufferedWriter writer;
+    
+    /**
+     * Opens the metrics file for appending, it is created if it does not exist.
+     *
+     * @param path Path to the JSON lines file
+     * @throws IOException If an I/O error occurs
+     */
+    MetricsWriter(final Path path) throws IOException {
+        writer = Files.newBufferedWriter(path,
+                                         StandardCharsets.UTF_8,
+                                         StandardOpenOption.CREATE,
+                                         StandardOpenOption.APPEND
+        );
+    }
+    
+    /**
+     * Writes the metrics of a part as single JSON line.
+     *
+     * @param result Result of the part
+     */
+    synchronized void write(final PartResult result) {
+        final var json = new JsonObject();
+        
+        json.addProperty("day", result.day());
+        json.addProperty("part", result.part());
+        json.addProperty("result", String.valueOf(result.result()));
+        json.addProperty("wallNanos", result.wallTime());
+        json.addProperty("cpuNanos", result.cpuTime());
+        json.addProperty("allocatedBytes", result.allocatedBytes());
+        json.addProperty("gcCount", result.gcCount());
+        json.addProperty("gcMillis", result.gcTime());
+        json.addProperty("peakHeapBytes", result.peakHeap());
+        
+        try {
+            writer.write(json.toString());
+            writer.newLine();
+            writer.flush();
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+    
+    @Override
+    public void close() throws IOException {
+        writer.close();
+    }
+}
@@ -0,0 +1,75 @@
+package aoc;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Command line arguments of the {@link App}: positional arguments and {@code --name[=value]} flags.
+ *
+ * @param positional Positional arguments in order
+ * @param flags      Flags by name (without the leading dashes), flags without a value map to an empty string
+ */
+record Options(List<String> positional, Map<String, String> flags) {
+    /**
+     * Parses the command line arguments.
+     *
+     * @param args Command line arguments
+     * @return Parsed options
+     */
+    static Options parse(final String[] args) {
+        final var positional = new ArrayList<String>();
+        final var flags      = new HashMap<String, String>();
+        
+        for (final var arg : args) {
+            if (!arg.startsWith("--")) {
+                positional.add(arg);
+                continue;
+            }
+            
+            final var separator = arg.indexOf('=');
+            
+            if (separator < 0) {
+                flags.put(arg.substring(2), "");
+            } else {
+                flags.put(arg.substring(2, separator), arg.substring(separator + 1));
+            }
+        }
+        
+        return new Options(List.copyOf(positional), Map.copyOf(flags));
+    }
+    
+    /**
+     * Gets a positional argument.
+     *
+     * @param index        Index of the positional argument
+     * @param defaultValue Value if there are not enough positional arguments
+     * @return Positional argument or default value
+     */
+    String get(final int index, final String defaultValue) {
+        return index < positional.size() ? positional.get(index) : defaultValue;
+    }
+    
+    /**
+     * Checks if a flag is set (with or without value).
+     *
+     * @param name Flag name
+     * @return True if the flag is set
+     */
+    boolean has(final String name) {
+        return flags.containsKey(name);
+    }
+    
+    /**
+     * Gets the value of a flag.
+     *
+     * @param name         Flag name
+     * @param defaultValue Value if the flag is not set or has no value
+     * @return Flag value or default value
+     */
+    String get(final String name, final String defaultValue) {
+        final var value = flags.get(name);
+        return value == null || value.isEmpty() ? defaultValue : value;
+    }
+}
@@ -0,0 +1,24 @@
+package aoc;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight recorder event for solving one part of a day, emitted by the {@link DayRunner}.
+ */
+@Name("aoc.Part")
+@Label("Part")
+@Category("Advent of Code")
+@Description("Solving one part of a day")
+@StackTrace(false)
+final class PartEvent extends Event {
+    @Label("Day")
+    int day;
+    
+    @Label("Part")
+    int part;
+}
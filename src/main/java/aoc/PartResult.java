@@ -0,0 +1,29 @@
+package aoc;
+
+/**
+ * Result of solving one part of a day, including the metrics recorded while solving it.<br>
+ * Allocation and CPU time are measured for the solving thread only. GC and heap figures are JVM wide, so they are only
+ * exact when a single day is solved at a time.
+ *
+ * @param day            Day number
+ * @param part           Part number (1 or 2)
+ * @param result         Solution, or the exception message if the part failed
+ * @param wallTime       Elapsed wall clock time in nanoseconds
+ * @param cpuTime        CPU time of the solving thread in nanoseconds
+ * @param allocatedBytes Bytes allocated by the solving thread
+ * @param gcCount        Number of garbage collections during the part
+ * @param gcTime         Accumulated garbage collection time during the part in milliseconds
+ * @param peakHeap       Peak heap usage during the part in bytes
+ */
+record PartResult(
+        int day,
+        int part,
+        Object result,
+        long wallTime,
+        long cpuTime,
+        long allocatedBytes,
+        long gcCount,
+        long gcTime,
+        long peakHeap
+) {
+}
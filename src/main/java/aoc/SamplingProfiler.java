@@ -0,0 +1,112 @@
+package aoc;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Samples the stack of a thread at a fixed interval and writes the samples as collapsed stacks: one line per distinct
+ * stack, its frames from the root to the leaf separated by {@code ;}, followed by the number of samples. That is the
+ * input format of the usual flame graph tools (e.g. {@code flamegraph.pl} or speedscope).<br>
+ * Only samples where the thread is runnable are counted, so the output approximates where the CPU time goes. Taking a
+ * stack trace of another thread needs a safepoint, so hot loops without one show up at their nearest safepoint.
+ */
+final class SamplingProfiler implements AutoCloseable {
+    private final Thread               target;
+    private final long                 intervalNanos;
+    private final Map<String, Integer> samples = new HashMap<>();
+    private final Thread               sampler;
+    private volatile boolean           running = true;
+    
+    /**
+     * Starts sampling a thread in the background.
+     *
+     * @param target   Thread to sample
+     * @param interval Time between two samples
+     */
+    SamplingProfiler(final Thread target, final Duration interval) {
+        this.target = target;
+        intervalNanos = interval.toNanos();
+        sampler = new Thread(this::sample, "profiler-%s".formatted(target.getName()));
+        sampler.setDaemon(true);
+        sampler.start();
+    }
+    
+    /**
+     * Stops sampling and waits for the sampler thread.
+     */
+    @Override
+    public void close() {
+        running = false;
+        LockSupport.unpark(sampler);
+        try {
+            sampler.join();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+    
+    /**
+     * Gets the number of samples taken.
+     *
+     * @return Number of samples
+     */
+    synchronized int getSampleCount() {
+        return samples.values().stream().mapToInt(Integer::intValue).sum();
+    }
+    
+    /**
+     * Writes the collapsed stacks, sorted by stack.
+     *
+     * @param path Path to the output file, it is replaced
+     * @throws IOException If an I/O error occurs
+     */
+    synchronized void write(final Path path) throws IOException {
+        final var lines = new ArrayList<String>(samples.size());
+        
+        samples.forEach((stack, count) -> lines.add("%s %d".formatted(stack, count)));
+        lines.sort(null);
+        
+        Files.write(path, lines, StandardCharsets.UTF_8);
+    }
+    
+    private void sample() {
+        while (running) {
+            LockSupport.parkNanos(intervalNanos);
+            
+            if (!running || target.getState() != Thread.State.RUNNABLE) {
+                continue;
+            }
+            
+            final var stack = target.getStackTrace();
+            
+            if (stack.length > 0) {
+                final var collapsed = collapse(stack);
+                
+                synchronized (this) {
+                    samples.merge(collapsed, 1, Integer::sum);
+                }
+            }
+        }
+    }
+    
+    // Stack traces start at the leaf, collapsed stacks at the root.
+    private static String collapse(final StackTraceElement[] stack) {
+        final var sb = new StringBuilder(stack.length * 48);
+        
+        for (var i = stack.length - 1; i >= 0; i--) {
+            sb.append(stack[i].getClassName()).append('.').append(stack[i].getMethodName());
+            if (i > 0) {
+                sb.append(';');
+            }
+        }
+        
+        return sb.toString();
+    }
+}
@@ -0,0 +1,214 @@
+package aoc;
+
+import aoc.common.Day;
+import aoc.common.DayRegistry;
+import aoc.common.SolveContext;
+import aoc.generators.Generators;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.ToLongFunction;
+
+/**
+ * Measures how the parts of a day grow with the size of their input.<br>
+ * Each part is solved from scratch (including the preparation) on generated inputs of the scales 1, 2, 4, ... and a
+ * power law {@code time ~ scale^k} is fitted to the median times and allocations by least squares in log-log space. An
+ * exponent of about 1 is linear and about 2 quadratic. A quadratic part is still fast on the puzzle input, so these
+ * only show up at the larger scales.
+ */
+final class ScalingHarness {
+    /**
+     * Exponent above which a part is reported as superlinear
+     */
+    static final double SUPERLINEAR = 1.5;
+    
+    private final int      maxScale;
+    private final int      runs;
+    private final long     seed;
+    private final Duration budget;
+    
+    /**
+     * Creates a harness.
+     *
+     * @param maxScale Largest scale to measure
+     * @param runs     Number of runs per scale, the median is used
+     * @param seed     Seed of the generated inputs
+     * @param budget   A part is not measured at larger scales once its median exceeds the budget. Each run is stopped
+     *                 after four times the budget (the next scale of a quadratic part), if the day supports it.
+     */
+    ScalingHarness(final int maxScale, final int runs, final long seed, final Duration budget) {
+        if (maxScale < 1 || runs < 1) {
+            throw new IllegalArgumentException("Invalid max scale %d or runs %d".formatted(maxScale, runs));
+        }
+        this.maxScale = maxScale;
+        this.runs = runs;
+        this.seed = seed;
+        this.budget = budget;
+    }
+    
+    /**
+     * Measures both parts of a day. A part which fails or is stopped at a scale ends its curve there.
+     *
+     * @param day Day number
+     * @return Curves of part 1 and 2
+     * @throws IOException If the generated inputs can not be written
+     */
+    List<Curve> measure(final int day) throws IOException {
+        final var instance  = DayRegistry.create(day);
+        final var generator = Generators.get(day);
+        final var directory = Files.createTempDirectory("scaling");
+        final var points    = List.of(new ArrayList<Point>(), new ArrayList<Point>());
+        final var active    = new boolean[] {true, true};
+        
+        try {
+            for (var scale = 1; scale <= maxScale && (active[0] || active[1]); scale *= 2) {
+                final var path = directory.resolve("day%02d-x%d.txt".formatted(day, scale));
+                
+                generator.write(path, scale, seed);
+                
+                try {
+                    for (var part = 1; part <= 2; part++) {
+                        if (!active[part - 1]) {
+                            continue;
+                        }
+                        
+                        final var point = measure(day, part, instance, path, scale);
+                        
+                        if (point != null) {
+                            points.get(part - 1).add(point);
+                        }
+                        active[part - 1] = point != null && point.wallTime() <= budget.toNanos();
+                    }
+                } finally {
+                    Files.delete(path);
+                }
+            }
+        } finally {
+            Files.delete(directory);
+        }
+        
+        return List.of(new Curve(day, 1, List.copyOf(points.get(0))), new Curve(day, 2, List.copyOf(points.get(1))));
+    }
+    
+    /**
+     * Solves a part repeatedly, the first scale gets an extra warm-up run which is not counted.
+     *
+     * @return Median time and allocation, or null if a run failed
+     */
+    private @Nullable Point measure(final int day, final int part, final Day instance, final Path path,
+                                    final int scale) {
+        final var times       = new long[runs];
+        final var allocations = new long[runs];
+        
+        for (var run = scale == 1 ? -1 : 0; run < runs; run++) {
+            final var failed = new boolean[1];
+            final var result = DayRunner.run(day, part, () -> {
+                try {
+                    return new SolveContext(budget.multipliedBy(4L), null).call(() -> solve(instance, path, part));
+                } catch (final RuntimeException e) {
+                    failed[0] = true;
+                    throw e;
+                }
+            });
+            
+            if (failed[0]) {
+                System.err.printf("Day %d part %d failed at scale %d: %s%n", day, part, scale, result.result());
+                return null;
+            }
+            if (run >= 0) {
+                times[run] = result.wallTime();
+                allocations[run] = result.allocatedBytes();
+            }
+        }
+        
+        Arrays.sort(times);
+        Arrays.sort(allocations);
+        
+        return new Point(scale, times[runs / 2], allocations[runs / 2]);
+    }
+    
+    private static Object solve(final Day instance, final Path path, final int part) {
+        try {
+            final var prepared = App.prepare(path, instance);
+            return part == 1 ? prepared.part1() : prepared.part2();
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+    
+    /**
+     * Fits {@code value = c * scale^k} by least squares over the logarithms.
+     *
+     * @param scales Scales, at least two different ones for a fit
+     * @param values Measured values at the scales (values below 1 are treated as 1)
+     * @return Exponent k, or NaN if there are too few scales
+     */
+    static double exponent(final int[] scales, final long[] values) {
+        if (scales.length != values.length) {
+            throw new IllegalArgumentException("%d scales, %d values".formatted(scales.length, values.length));
+        }
+        
+        final var n     = scales.length;
+        var       sumX  = 0.0;
+        var       sumY  = 0.0;
+        var       sumXX = 0.0;
+        var       sumXY = 0.0;
+        
+        for (var i = 0; i < n; i++) {
+            final var x = Math.log(scales[i]);
+            final var y = Math.log(Math.max(values[i], 1L));
+            
+            sumX += x;
+            sumY += y;
+            sumXX += x * x;
+            sumXY += x * y;
+        }
+        
+        final var denominator = n * sumXX - sumX * sumX;
+        
+        return denominator < 1e-9 ? Double.NaN : (n * sumXY - sumX * sumY) / denominator;
+    }
+    
+    /**
+     * Median measurement of a part at one scale.
+     *
+     * @param scale          Scale of the generated input
+     * @param wallTime       Median wall time in nanoseconds
+     * @param allocatedBytes Median bytes allocated by the solving thread
+     */
+    record Point(int scale, long wallTime, long allocatedBytes) {
+    }
+    
+    /**
+     * Measurements of a part over the scales.
+     *
+     * @param day    Day number
+     * @param part   Part number (1 or 2)
+     * @param points Measurements in ascending scale
+     */
+    record Curve(int day, int part, List<Point> points) {
+        double timeExponent() {
+            return fit(Point::wallTime);
+        }
+        
+        double allocationExponent() {
+            return fit(Point::allocatedBytes);
+        }
+        
+        boolean isSuperlinear() {
+            return timeExponent() > SUPERLINEAR || allocationExponent() > SUPERLINEAR;
+        }
+        
+        private double fit(final ToLongFunction<Point> metric) {
+            return exponent(points.stream().mapToInt(Point::scale).toArray(),
+                            points.stream().mapToLong(metric).toArray());
+        }
+    }
+}
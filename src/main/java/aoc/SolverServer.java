@@ -0,0 +1,148 @@
+package aoc;
+
+import aoc.common.Day;
+import aoc.common.DayRegistry;
+import aoc.common.Input;
+import aoc.common.SolveCancelledException;
+import aoc.common.SolveContext;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.regex.Pattern;
+
+/**
+ * Local HTTP server which keeps the days loaded and JIT compiled between requests.<br>
+ * {@code POST /day/{n}/part/{p}} solves the request body as input and responds with the answer as plain text. The
+ * timings of each request are reported in {@code X-Read-Nanos} (reading the body), {@code X-Wall-Nanos},
+ * {@code X-Cpu-Nanos} and {@code X-Allocated-Bytes} (solving). A part running past the timeout is stopped (see
+ * {@link SolveContext}) and answered with 503, the server keeps running. The server only listens on the loopback
+ * address.
+ */
+@SuppressWarnings("HardCodedStringLiteral")
+final class SolverServer {
+    private static final Pattern PATH = Pattern.compile("/day/(\\d{1,2})/part/([12])");
+    
+    private final Map<Integer, Day>  days = new ConcurrentHashMap<>();
+    private final HttpServer         server;
+    private final ExecutorService    executor;
+    private final @Nullable Duration timeout;
+    
+    /**
+     * Creates the server without timeout, it does not accept requests until started.
+     *
+     * @param port    Port to listen on, 0 picks a free port
+     * @param threads Number of requests solved concurrently
+     * @throws IOException If the port cannot be bound
+     */
+    SolverServer(final int port, final int threads) throws IOException {
+        this(port, threads, null);
+    }
+    
+    /**
+     * Creates the server, it does not accept requests until started.
+     *
+     * @param port    Port to listen on, 0 picks a free port
+     * @param threads Number of requests solved concurrently
+     * @param timeout Time each part may take, or null for no limit
+     * @throws IOException If the port cannot be bound
+     */
+    SolverServer(final int port, final int threads, final @Nullable Duration timeout) throws IOException {
+        this.timeout = timeout;
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+        executor = Executors.newFixedThreadPool(threads);
+        
+        server.createContext("/day/", this::handle);
+        server.setExecutor(executor);
+    }
+    
+    /**
+     * Starts accepting requests in the background.
+     */
+    void start() {
+        server.start();
+    }
+    
+    /**
+     * Stops the server, waiting at most a second for running requests.
+     */
+    void stop() {
+        server.stop(1);
+        executor.shutdown();
+    }
+    
+    /**
+     * Gets the port the server listens on.
+     *
+     * @return Port
+     */
+    int getPort() {
+        return server.getAddress().getPort();
+    }
+    
+    private void handle(final HttpExchange exchange) throws IOException {
+        try (exchange) {
+            final var matcher = PATH.matcher(exchange.getRequestURI().getPath());
+            
+            if (!matcher.matches()) {
+                respond(exchange, 404, "Expected /day/{n}/part/{1|2}");
+                return;
+            }
+            if (!exchange.getRequestMethod().equals("POST")) {
+                exchange.getResponseHeaders().add("Allow", "POST");
+                respond(exchange, 405, "Expected POST with the input as body");
+                return;
+            }
+            
+            final var dayNumber = Integer.parseInt(matcher.group(1));
+            final var part      = Integer.parseInt(matcher.group(2));
+            
+            if (!DayRegistry.days().contains(dayNumber)) {
+                respond(exchange, 404, "Unknown day: %d".formatted(dayNumber));
+                return;
+            }
+            
+            final var readStart = System.nanoTime();
+            final var input     = Input.wrap(exchange.getRequestBody().readAllBytes());
+            final var readTime  = System.nanoTime() - readStart;
+            final var day       = days.computeIfAbsent(dayNumber, DayRegistry::create);
+            final var failure   = new RuntimeException[1];
+            
+            final var result = DayRunner.run(dayNumber, part, () -> {
+                try {
+                    return new SolveContext(timeout, null).call(() -> part == 1 ? day.part1(input)
+                                                                                 : day.part2(input));
+                } catch (final RuntimeException e) {
+                    failure[0] = e;
+                    throw e;
+                }
+            });
+            
+            final var headers = exchange.getResponseHeaders();
+            headers.add("X-Read-Nanos", String.valueOf(readTime));
+            headers.add("X-Wall-Nanos", String.valueOf(result.wallTime()));
+            headers.add("X-Cpu-Nanos", String.valueOf(result.cpuTime()));
+            headers.add("X-Allocated-Bytes", String.valueOf(result.allocatedBytes()));
+            
+            final var status = failure[0] == null ? 200 : failure[0] instanceof SolveCancelledException ? 503 : 500;
+            respond(exchange, status, String.valueOf(result.result()));
+        }
+    }
+    
+    private static void respond(final HttpExchange exchange, final int status, final String body) throws IOException {
+        final var bytes = body.getBytes(StandardCharsets.UTF_8);
+        
+        exchange.getResponseHeaders().add("Content-Type", "text/plain; charset=utf-8");
+        exchange.sendResponseHeaders(status, bytes.length);
+        exchange.getResponseBody().write(bytes);
+    }
+}
@@ -0,0 +1,289 @@
+package aoc.common;
+
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * Dense grid of bits, stored row by row in {@code long} words (bit {@code x & 63} of word {@code x >> 6} of a row).<br>
+ * Unlike the cell grids ({@link Grid}), the operations here work on whole rows: shifting, and, or, and-not and
+ * counting handle 64 cells per word instead of one hash lookup or array access per cell. That makes it a good fit for
+ * occupancy maps which move as a whole, like blizzards or a BFS frontier. Bits outside the width are always kept at
+ * zero, so shifts never bring in garbage. Coordinates are not checked, they must lie within the grid.
+ */
+public final class BitGrid {
+    private final int    width;
+    private final int    height;
+    private final int    wordsPerRow;
+    private final long   lastWordMask;
+    private final long[] words;
+    
+    /**
+     * Creates a new grid with all bits cleared.
+     *
+     * @param width  The width.
+     * @param height The height.
+     */
+    public BitGrid(final int width, final int height) {
+        if (width <= 0 || height <= 0) {
+            throw new IllegalArgumentException("Invalid grid size: %dx%d".formatted(width, height));
+        }
+        
+        this.width = width;
+        this.height = height;
+        wordsPerRow = (width + 63) >> 6;
+        lastWordMask = -1L >>> (wordsPerRow * 64 - width);
+        words = new long[Math.multiplyExact(wordsPerRow, height)];
+    }
+    
+    /**
+     * Creates a copy of the given grid.
+     *
+     * @param other The grid to copy.
+     */
+    public BitGrid(final BitGrid other) {
+        width = other.width;
+        height = other.height;
+        wordsPerRow = other.wordsPerRow;
+        lastWordMask = other.lastWordMask;
+        words = other.words.clone();
+    }
+    
+    /**
+     * Gets the width.
+     *
+     * @return The width.
+     */
+    public int width() {
+        return width;
+    }
+    
+    /**
+     * Gets the height.
+     *
+     * @return The height.
+     */
+    public int height() {
+        return height;
+    }
+    
+    /**
+     * Gets the bit at the given coordinates.
+     *
+     * @param x The x coordinate.
+     * @param y The y coordinate.
+     * @return True if the bit is set.
+     */
+    public boolean get(final int x, final int y) {
+        return (words[y * wordsPerRow + (x >> 6)] & 1L << x) != 0;
+    }
+    
+    /**
+     * Sets the bit at the given coordinates.
+     *
+     * @param x The x coordinate.
+     * @param y The y coordinate.
+     */
+    public void set(final int x, final int y) {
+        words[y * wordsPerRow + (x >> 6)] |= 1L << x;
+    }
+    
+    /**
+     * Clears the bit at the given coordinates.
+     *
+     * @param x The x coordinate.
+     * @param y The y coordinate.
+     */
+    public void clear(final int x, final int y) {
+        words[y * wordsPerRow + (x >> 6)] &= ~(1L << x);
+    }
+    
+    /**
+     * Clears all bits.
+     */
+    public void clear() {
+        Arrays.fill(words, 0L);
+    }
+    
+    /**
+     * Counts the set bits.
+     *
+     * @return The number of set bits.
+     */
+    public int cardinality() {
+        var count = 0;
+        for (final var word : words) {
+            count += Long.bitCount(word);
+        }
+        return count;
+    }
+    
+    /**
+     * Counts the set bits of a row.
+     *
+     * @param y The row.
+     * @return The number of set bits in the row.
+     */
+    public int cardinality(final int y) {
+        var count = 0;
+        for (var i = y * wordsPerRow; i < (y + 1) * wordsPerRow; i++) {
+            count += Long.bitCount(words[i]);
+        }
+        return count;
+    }
+    
+    /**
+     * Replaces all bits with the ones of another grid.
+     *
+     * @param other The grid to copy, of the same size.
+     */
+    public void copyFrom(final BitGrid other) {
+        checkSize(other);
+        System.arraycopy(other.words, 0, words, 0, words.length);
+    }
+    
+    /**
+     * Sets all bits which are set in another grid.
+     *
+     * @param other The other grid, of the same size.
+     */
+    public void or(final BitGrid other) {
+        checkSize(other);
+        for (var i = 0; i < words.length; i++) {
+            words[i] |= other.words[i];
+        }
+    }
+    
+    /**
+     * Clears all bits which are not set in another grid.
+     *
+     * @param other The other grid, of the same size.
+     */
+    public void and(final BitGrid other) {
+        checkSize(other);
+        for (var i = 0; i < words.length; i++) {
+            words[i] &= other.words[i];
+        }
+    }
+    
+    /**
+     * Clears all bits which are set in another grid.
+     *
+     * @param other The other grid, of the same size.
+     */
+    public void andNot(final BitGrid other) {
+        checkSize(other);
+        for (var i = 0; i < words.length; i++) {
+            words[i] &= ~other.words[i];
+        }
+    }
+    
+    /**
+     * Sets all bits of another grid moved by the given offset. Bits moved outside the grid are dropped.
+     *
+     * @param other The other grid, of the same size (but not this grid).
+     * @param dx    The offset in x direction.
+     * @param dy    The offset in y direction.
+     */
+    public void orShifted(final BitGrid other, final int dx, final int dy) {
+        checkSize(other);
+        if (other == this) {
+            throw new IllegalArgumentException("Cannot shift a grid into itself");
+        }
+        if (dx <= -width || dx >= width) {
+            return;
+        }
+        
+        for (var y = Math.max(0, dy); y < Math.min(height, height + dy); y++) {
+            orShiftedRow(other.words, (y - dy) * wordsPerRow, y * wordsPerRow, dx);
+        }
+    }
+    
+    /**
+     * Sets all cells next to (but not on) a set bit of another grid, i.e. its four neighbours mask.
+     *
+     * @param other The other grid, of the same size (but not this grid).
+     */
+    public void orNeighbours(final BitGrid other) {
+        orShifted(other, 1, 0);
+        orShifted(other, -1, 0);
+        orShifted(other, 0, 1);
+        orShifted(other, 0, -1);
+    }
+    
+    /**
+     * Replaces all bits with the ones of another grid rotated by the given offset, i.e. bits leaving the grid on one
+     * side enter it again on the opposite side.
+     *
+     * @param other The other grid, of the same size (but not this grid).
+     * @param dx    The offset in x direction.
+     * @param dy    The offset in y direction.
+     */
+    public void rotateFrom(final BitGrid other, final int dx, final int dy) {
+        final var x = Math.floorMod(dx, width);
+        final var y = Math.floorMod(dy, height);
+        
+        clear();
+        orShifted(other, x, y);
+        orShifted(other, x - width, y);
+        orShifted(other, x, y - height);
+        orShifted(other, x - width, y - height);
+    }
+    
+    /**
+     * Writes the grid in binary, see {@link ModelCodec}.
+     *
+     * @param out Output to write to
+     * @throws IOException If an I/O error occurs
+     */
+    public void write(final DataOutput out) throws IOException {
+        out.writeInt(width);
+        out.writeInt(height);
+        for (final var word : words) {
+            out.writeLong(word);
+        }
+    }
+    
+    /**
+     * Reads a grid written by {@link #write(DataOutput)}.
+     *
+     * @param buffer Buffer positioned at the start of the grid, it is moved behind it
+     * @return Grid
+     */
+    public static BitGrid read(final ByteBuffer buffer) {
+        final var grid = new BitGrid(buffer.getInt(), buffer.getInt());
+        
+        buffer.asLongBuffer().get(grid.words);
+        buffer.position(buffer.position() + grid.words.length * Long.BYTES);
+        return grid;
+    }
+    
+    // Moving a cell by dx moves it by dx >> 6 whole words and then dx & 63 bits, which may carry into the next word.
+    private void orShiftedRow(final long[] source, final int sourceStart, final int targetStart, final int dx) {
+        final var wordShift = dx >> 6;
+        final var bitShift  = dx & 63;
+        
+        for (var i = 0; i < wordsPerRow; i++) {
+            final var j     = i - wordShift;
+            var       value = 0L;
+            
+            if (j >= 0 && j < wordsPerRow) {
+                value = source[sourceStart + j] << bitShift;
+            }
+            if (bitShift != 0 && j > 0 && j <= wordsPerRow) {
+                value |= source[sourceStart + j - 1] >>> 64 - bitShift;
+            }
+            
+            words[targetStart + i] |= i == wordsPerRow - 1 ? value & lastWordMask : value;
+        }
+    }
+    
+    private void checkSize(final BitGrid other) {
+        if (other.width != width || other.height != height) {
+            throw new IllegalArgumentException("Grid sizes differ: %dx%d and %dx%d".formatted(width, height,
+                                                                                              other.width,
+                                                                                              other.height));
+        }
+    }
+}
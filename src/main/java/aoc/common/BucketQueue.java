@@ -0,0 +1,93 @@
+package aoc.common;
+
+import java.util.NoSuchElementException;
+
+/**
+ * Monotone priority queue of primitive ints for small integer priorities (Dial's algorithm).<br>
+ * There is one {@link IntQueue} per priority in a ring of {@code maxStep + 1} buckets, so adding and polling are O(1)
+ * instead of O(log n) for a heap. This only works because the priorities never go back: every added priority must lie
+ * between the one of the last polled element and that plus {@code maxStep}, which holds for Dijkstra with edge weights
+ * of at most {@code maxStep}.
+ */
+public final class BucketQueue {
+    private final IntQueue[] buckets;
+    private       int        current;
+    private       int        size;
+    
+    /**
+     * Creates a new, empty queue.
+     *
+     * @param maxStep The largest difference between the current and an added priority, e.g. the largest edge weight.
+     */
+    public BucketQueue(final int maxStep) {
+        if (maxStep < 0) {
+            throw new IllegalArgumentException("Invalid max step: %d".formatted(maxStep));
+        }
+        buckets = new IntQueue[maxStep + 1];
+        for (var i = 0; i < buckets.length; i++) {
+            buckets[i] = new IntQueue();
+        }
+    }
+    
+    /**
+     * Adds an element.
+     *
+     * @param value    The element to add.
+     * @param priority The priority, lower is polled first.
+     * @throws IllegalArgumentException If the priority is outside the current window.
+     */
+    public void add(final int value, final int priority) {
+        if (priority < current || priority - current >= buckets.length) {
+            throw new IllegalArgumentException("Priority %d outside of [%d, %d]".formatted(priority, current,
+                                                                                          current + buckets.length - 1));
+        }
+        buckets[priority % buckets.length].add(value);
+        size++;
+    }
+    
+    /**
+     * Removes an element with the lowest priority, see {@link #priority()}.
+     *
+     * @return The removed element.
+     * @throws NoSuchElementException If the queue is empty.
+     */
+    public int poll() {
+        if (size == 0) {
+            throw new NoSuchElementException("Queue is empty");
+        }
+        while (buckets[current % buckets.length].isEmpty()) {
+            current++;
+        }
+        size--;
+        return buckets[current % buckets.length].poll();
+    }
+    
+    /**
+     * Gets the priority of the last polled element.
+     *
+     * @return The current priority.
+     */
+    public int priority() {
+        return current;
+    }
+    
+    /**
+     * Checks if the queue is empty.
+     *
+     * @return True if there are no elements.
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+    
+    /**
+     * Removes all elements and resets the priority to zero.
+     */
+    public void clear() {
+        for (final var bucket : buckets) {
+            bucket.clear();
+        }
+        current = 0;
+        size = 0;
+    }
+}
@@ -0,0 +1,139 @@
+package aoc.common;
+
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.IntUnaryOperator;
+
+/**
+ * Dense grid of bytes, see {@link Grid}. Good for small values like heights or tile types.
+ */
+public final class ByteGrid extends Grid {
+    private final byte[] cells;
+    
+    /**
+     * Creates a new grid with all cells (including the border) set to the fill value.
+     *
+     * @param width   The width of the unpadded area.
+     * @param height  The height of the unpadded area.
+     * @param padding The size of the border around the unpadded area.
+     * @param fill    The initial value of all cells.
+     */
+    public ByteGrid(final int width, final int height, final int padding, final byte fill) {
+        super(width, height, padding);
+        cells = new byte[length()];
+        if (fill != 0) {
+            Arrays.fill(cells, fill);
+        }
+    }
+    
+    /**
+     * Parses a grid from lines, one char per cell. Lines shorter than the widest one are filled up with the fill value.
+     *
+     * @param lines   The lines.
+     * @param padding The size of the border around the parsed area.
+     * @param fill    The value of the border and missing cells.
+     * @param mapper  Maps each char to the value of its cell.
+     * @return The parsed grid.
+     */
+    public static ByteGrid parse(final List<? extends CharSequence> lines, final int padding, final byte fill,
+                                 final IntUnaryOperator mapper) {
+        final var grid = new ByteGrid(maxLength(lines), lines.size(), padding, fill);
+        
+        for (var y = 0; y < lines.size(); y++) {
+            final var line  = lines.get(y);
+            final var start = grid.index(0, y);
+            for (var x = 0; x < line.length(); x++) {
+                grid.cells[start + x] = (byte) mapper.applyAsInt(line.charAt(x));
+            }
+        }
+        
+        return grid;
+    }
+    
+    /**
+     * Gets the value at the given coordinates.
+     *
+     * @param x The x coordinate.
+     * @param y The y coordinate.
+     * @return The value.
+     */
+    public byte get(final int x, final int y) {
+        return cells[index(x, y)];
+    }
+    
+    /**
+     * Gets the value at the given index.
+     *
+     * @param index The index.
+     * @return The value.
+     */
+    public byte get(final int index) {
+        return cells[index];
+    }
+    
+    /**
+     * Sets the value at the given coordinates.
+     *
+     * @param x     The x coordinate.
+     * @param y     The y coordinate.
+     * @param value The new value.
+     */
+    public void set(final int x, final int y, final byte value) {
+        cells[index(x, y)] = value;
+    }
+    
+    /**
+     * Sets the value at the given index.
+     *
+     * @param index The index.
+     * @param value The new value.
+     */
+    public void set(final int index, final byte value) {
+        cells[index] = value;
+    }
+    
+    /**
+     * Writes the grid (including the border) in binary, see {@link ModelCodec}.
+     *
+     * @param out Output to write to
+     * @throws IOException If an I/O error occurs
+     */
+    public void write(final DataOutput out) throws IOException {
+        out.writeInt(width());
+        out.writeInt(height());
+        out.writeInt(padding());
+        out.write(cells);
+    }
+    
+    /**
+     * Reads a grid written by {@link #write(DataOutput)}.
+     *
+     * @param buffer Buffer positioned at the start of the grid, it is moved behind it
+     * @return Grid
+     */
+    public static ByteGrid read(final ByteBuffer buffer) {
+        final var grid = new ByteGrid(buffer.getInt(), buffer.getInt(), buffer.getInt(), (byte) 0);
+        
+        buffer.get(grid.cells);
+        return grid;
+    }
+    
+    /**
+     * Counts the cells (including the border) with the given value.
+     *
+     * @param value The value to count.
+     * @return The number of cells with the value.
+     */
+    public int count(final byte value) {
+        var count = 0;
+        for (final var cell : cells) {
+            if (cell == value) {
+                count++;
+            }
+        }
+        return count;
+    }
+}
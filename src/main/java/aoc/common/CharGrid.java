@@ -0,0 +1,123 @@
+package aoc.common;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Dense grid of chars, see {@link Grid}. Keeps the input as it is, e.g. for maps which are modified while solving.
+ */
+public final class CharGrid extends Grid {
+    private final char[] cells;
+    
+    /**
+     * Creates a new grid with all cells (including the border) set to the fill value.
+     *
+     * @param width   The width of the unpadded area.
+     * @param height  The height of the unpadded area.
+     * @param padding The size of the border around the unpadded area.
+     * @param fill    The initial value of all cells.
+     */
+    public CharGrid(final int width, final int height, final int padding, final char fill) {
+        super(width, height, padding);
+        cells = new char[length()];
+        if (fill != 0) {
+            Arrays.fill(cells, fill);
+        }
+    }
+    
+    /**
+     * Parses a grid from lines, one char per cell. Lines shorter than the widest one are filled up with the fill char.
+     *
+     * @param lines   The lines.
+     * @param padding The size of the border around the parsed area.
+     * @param fill    The char of the border and missing cells.
+     * @return The parsed grid.
+     */
+    public static CharGrid parse(final List<? extends CharSequence> lines, final int padding, final char fill) {
+        final var grid = new CharGrid(maxLength(lines), lines.size(), padding, fill);
+        
+        for (var y = 0; y < lines.size(); y++) {
+            final var line  = lines.get(y);
+            final var start = grid.index(0, y);
+            for (var x = 0; x < line.length(); x++) {
+                grid.cells[start + x] = line.charAt(x);
+            }
+        }
+        
+        return grid;
+    }
+    
+    /**
+     * Gets the value at the given coordinates.
+     *
+     * @param x The x coordinate.
+     * @param y The y coordinate.
+     * @return The value.
+     */
+    public char get(final int x, final int y) {
+        return cells[index(x, y)];
+    }
+    
+    /**
+     * Gets the value at the given index.
+     *
+     * @param index The index.
+     * @return The value.
+     */
+    public char get(final int index) {
+        return cells[index];
+    }
+    
+    /**
+     * Sets the value at the given coordinates.
+     *
+     * @param x     The x coordinate.
+     * @param y     The y coordinate.
+     * @param value The new value.
+     */
+    public void set(final int x, final int y, final char value) {
+        cells[index(x, y)] = value;
+    }
+    
+    /**
+     * Sets the value at the given index.
+     *
+     * @param index The index.
+     * @param value The new value.
+     */
+    public void set(final int index, final char value) {
+        cells[index] = value;
+    }
+    
+    /**
+     * Counts the cells (including the border) with the given value.
+     *
+     * @param value The value to count.
+     * @return The number of cells with the value.
+     */
+    public int count(final char value) {
+        var count = 0;
+        for (final var cell : cells) {
+            if (cell == value) {
+                count++;
+            }
+        }
+        return count;
+    }
+    
+    /**
+     * Renders the grid including its border, one line per row.
+     *
+     * @return The grid as text.
+     */
+    @Override
+    public String toString() {
+        final var builder = new StringBuilder(length() + height() + 2 * padding());
+        
+        for (var start = 0; start < length(); start += stride()) {
+            builder.append(cells, start, stride()).append('\n');
+        }
+        
+        return builder.toString();
+    }
+}
@@ -0,0 +1,196 @@
+package aoc.common;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+/**
+ * Cursor over a {@link CharSequence}, which extracts numbers and words without intermediate strings, splits or
+ * regular expressions.<br>
+ * Numbers are found by skipping everything before them, so {@code "Sensor at x=-2, y=15"} simply yields -2 and 15. A
+ * minus sign only counts when a digit follows directly, which also means that {@code "2-4"} reads as 2 and -4. One
+ * scanner can be {@link #reset(CharSequence) reset} to each line, so scanning a whole input allocates nothing but the
+ * words asked for. On the lines of a memory-mapped {@link Input} no string is decoded at all.
+ */
+public final class CharScanner {
+    private CharSequence text;
+    private int          position;
+    
+    /**
+     * Creates a scanner at the start of the given text.
+     *
+     * @param text Text to scan
+     */
+    public CharScanner(final CharSequence text) {
+        reset(text);
+    }
+    
+    /**
+     * Restarts the scanner on another text.
+     *
+     * @param text Text to scan
+     * @return This scanner
+     */
+    public CharScanner reset(final CharSequence text) {
+        this.text = text;
+        position = 0;
+        return this;
+    }
+    
+    /**
+     * Checks if there is another number after the current position.
+     *
+     * @return True if {@link #nextInt()} or {@link #nextLong()} can succeed
+     */
+    public boolean hasNextNumber() {
+        return findNumber() >= 0;
+    }
+    
+    /**
+     * Reads the next (signed) number as int.
+     *
+     * @return Next number
+     * @throws NoSuchElementException If there is no further number
+     * @throws ArithmeticException    If the number does not fit into an int
+     */
+    public int nextInt() {
+        return Math.toIntExact(nextLong());
+    }
+    
+    /**
+     * Reads the next (signed) number as long.
+     *
+     * @return Next number
+     * @throws NoSuchElementException If there is no further number
+     */
+    public long nextLong() {
+        var index = findNumber();
+        
+        if (index < 0) {
+            throw new NoSuchElementException("No number after position %d: %s".formatted(position, text));
+        }
+        
+        final var negative = text.charAt(index) == '-';
+        var       value    = 0L;
+        
+        if (negative) {
+            index++;
+        }
+        while (index < text.length() && isDigit(text.charAt(index))) {
+            value = value * 10 + (text.charAt(index++) - '0');
+        }
+        
+        position = index;
+        return negative ? -value : value;
+    }
+    
+    /**
+     * Checks if there is another word (run of letters) after the current position.
+     *
+     * @return True if {@link #nextWord()} can succeed
+     */
+    public boolean hasNextWord() {
+        return findWord() >= 0;
+    }
+    
+    /**
+     * Reads the next word, a run of ASCII letters.
+     *
+     * @return Next word, a view into the scanned text where the text supports it
+     * @throws NoSuchElementException If there is no further word
+     */
+    public CharSequence nextWord() {
+        final var start = findWord();
+        
+        if (start < 0) {
+            throw new NoSuchElementException("No word after position %d: %s".formatted(position, text));
+        }
+        
+        var end = start;
+        while (end < text.length() && isLetter(text.charAt(end))) {
+            end++;
+        }
+        
+        position = end;
+        return text.subSequence(start, end);
+    }
+    
+    /**
+     * Skips the given number of words.
+     *
+     * @param count Number of words to skip
+     * @return This scanner
+     * @throws NoSuchElementException If there are not enough words
+     */
+    public CharScanner skipWords(final int count) {
+        for (var i = 0; i < count; i++) {
+            nextWord();
+        }
+        return this;
+    }
+    
+    /**
+     * Moves behind the next occurrence of a character, or to the end if there is none.
+     *
+     * @param c Character to skip past
+     * @return This scanner
+     */
+    public CharScanner skipPast(final char c) {
+        while (position < text.length() && text.charAt(position++) != c) {
+            // Just advancing
+        }
+        return this;
+    }
+    
+    /**
+     * Reads all numbers of a text.
+     *
+     * @param text Text to scan
+     * @return All numbers in order
+     */
+    public static int[] ints(final CharSequence text) {
+        final var scanner = new CharScanner(text);
+        var       numbers = new int[8];
+        var       count   = 0;
+        
+        while (scanner.hasNextNumber()) {
+            if (count == numbers.length) {
+                numbers = Arrays.copyOf(numbers, count * 2);
+            }
+            numbers[count++] = scanner.nextInt();
+        }
+        
+        return Arrays.copyOf(numbers, count);
+    }
+    
+    private int findNumber() {
+        final var length = text.length();
+        
+        for (var i = position; i < length; i++) {
+            final var c = text.charAt(i);
+            
+            if (isDigit(c) || c == '-' && i + 1 < length && isDigit(text.charAt(i + 1))) {
+                return i;
+            }
+        }
+        
+        return -1;
+    }
+    
+    private int findWord() {
+        for (var i = position; i < text.length(); i++) {
+            if (isLetter(text.charAt(i))) {
+                return i;
+            }
+        }
+        
+        return -1;
+    }
+    
+    private static boolean isDigit(final char c) {
+        return c >= '0' && c <= '9';
+    }
+    
+    private static boolean isLetter(final char c) {
+        return c >= 'a' && c <= 'z' || c >= 'A' && c <= 'Z';
+    }
+}
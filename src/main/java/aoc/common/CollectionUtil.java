@@ -1,8 +1,12 @@
 package aoc.common;
 
+import java.util.AbstractList;
 import java.util.List;
-import java.util.stream.Collectors;
-import java.util.stream.IntStream;
+import java.util.RandomAccess;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * Utility class for collections
@@ -12,18 +16,130 @@ public final class CollectionUtil {
     
     /**
      * Partition a list into a list of lists.<br>
-     * If the list size is not a multiple of the partition size, the last partition element will be smaller.
+     * If the list size is not a multiple of the partition size, the last partition element will be smaller.<br>
+     * The result is a lazy view: nothing is copied, each partition is a {@link List#subList(int, int)} of the original.
      * @param collection Collection to partition
      * @param partitionSize Size of each partition
      * @param <T> Type of the collection
-     * @return List of partitions
+     * @return List of partitions (read-only view)
      */
     public static <T> List<List<T>> partition(final List<T> collection, final int partitionSize)
     {
-        return IntStream.rangeClosed(0, (collection.size() - 1) / partitionSize)
-                        .mapToObj(i -> collection.subList(i * partitionSize,
-                                                          Math.min((i + 1) * partitionSize, collection.size())))
-                        .collect(Collectors.toList());
+        if (partitionSize <= 0) {
+            throw new IllegalArgumentException("Partition size must be positive: %d".formatted(partitionSize));
+        }
+        return new Partitions<>(collection, partitionSize);
+    }
+    
+    /**
+     * Stream of fixed-size chunks of a list, see {@link #partition(List, int)}.<br>
+     * The stream splits on chunk boundaries, so it can be run in parallel.
+     * @param collection Collection to chunk
+     * @param chunkSize Size of each chunk
+     * @param <T> Type of the collection
+     * @return Stream of chunks
+     */
+    public static <T> Stream<List<T>> chunks(final List<T> collection, final int chunkSize)
+    {
+        return partition(collection, chunkSize).stream();
+    }
+    
+    /**
+     * Stream of the records of a list of lines, where records are separated by (one or more) empty lines.<br>
+     * Each record is a {@link List#subList(int, int)} view of the lines. The stream splits on record boundaries, so it
+     * can be run in parallel.
+     * @param lines Lines to group
+     * @param <T> Type of the lines
+     * @return Stream of records
+     */
+    public static <T extends CharSequence> Stream<List<T>> records(final List<T> lines)
+    {
+        return StreamSupport.stream(new RecordSpliterator<>(lines, 0, lines.size()), false);
+    }
+    
+    private static final class Partitions<T> extends AbstractList<List<T>> implements RandomAccess {
+        private final List<T> collection;
+        private final int     partitionSize;
+        
+        private Partitions(final List<T> collection, final int partitionSize) {
+            this.collection = collection;
+            this.partitionSize = partitionSize;
+        }
+        
+        @Override
+        public List<T> get(final int index) {
+            if (index < 0 || index >= size()) {
+                throw new IndexOutOfBoundsException(index);
+            }
+            final var start = index * partitionSize;
+            return collection.subList(start, Math.min(start + partitionSize, collection.size()));
+        }
+        
+        @Override
+        public int size() {
+            return (collection.size() + partitionSize - 1) / partitionSize;
+        }
+    }
+    
+    // Splits in the middle and then moves forward to the next empty line, so no record is ever cut in two.
+    private static final class RecordSpliterator<T extends CharSequence> implements Spliterator<List<T>> {
+        private static final int MIN_SPLIT = 64;
+        
+        private final List<T> lines;
+        private final int     end;
+        private       int     index;
+        
+        private RecordSpliterator(final List<T> lines, final int start, final int end) {
+            this.lines = lines;
+            this.index = start;
+            this.end = end;
+        }
+        
+        @Override
+        public boolean tryAdvance(final Consumer<? super List<T>> action) {
+            while (index < end && lines.get(index).isEmpty()) {
+                index++;
+            }
+            if (index >= end) {
+                return false;
+            }
+            
+            final var start = index;
+            while (index < end && !lines.get(index).isEmpty()) {
+                index++;
+            }
+            
+            action.accept(lines.subList(start, index));
+            return true;
+        }
+        
+        @Override
+        public Spliterator<List<T>> trySplit() {
+            if (end - index < MIN_SPLIT) {
+                return null;
+            }
+            
+            var middle = (index + end) >>> 1;
+            while (middle < end && !lines.get(middle).isEmpty()) {
+                middle++;
+            }
+            if (middle >= end) {
+                return null;
+            }
+            
+            final var prefix = new RecordSpliterator<>(lines, index, middle);
+            index = middle + 1;
+            return prefix;
+        }
+        
+        @Override
+        public long estimateSize() {
+            return end - index;
+        }
+        
+        @Override
+        public int characteristics() {
+            return ORDERED | NONNULL;
+        }
     }
-
 }
@@ -1,11 +1,17 @@
 package aoc.common;
 
 import java.util.List;
+import java.util.Map;
 
 /**
  * Interface for a generic day
  */
 public interface Day {
+    /**
+     * Name of the strategy every day has: the day itself.
+     */
+    String REFERENCE = "reference"; //NON-NLS
+    
     /**
      * Solve part 1
      *
@@ -21,4 +27,119 @@ public interface Day {
      * @return Solution
      */
     Object part2(final List<String> input);
+    
+    /**
+     * Solve part 1 on a (memory-mapped) input. Days which can work on the line views directly override this, all
+     * others get the lines as {@code List<String>}.
+     *
+     * @param input Input (same for both parts)
+     * @return Solution
+     */
+    default Object part1(final Input input) {
+        return part1(input.lines());
+    }
+    
+    /**
+     * Solve part 2 on a (memory-mapped) input. Days which can work on the line views directly override this, all
+     * others get the lines as {@code List<String>}.
+     *
+     * @param input Input (same for both parts)
+     * @return Solution
+     */
+    default Object part2(final Input input) {
+        return part2(input.lines());
+    }
+    
+    /**
+     * Gets the strategies (implementations) of this day by name. Days with an optimized engine keep their original,
+     * readable solution as {@link #REFERENCE} strategy, so the engines can be compared against it.
+     *
+     * @return Strategies by name, always containing this day as {@link #REFERENCE}
+     */
+    default Map<String, Day> strategies() {
+        return Map.of(REFERENCE, this);
+    }
+    
+    /**
+     * Prepares the input for solving both parts. Plain days keep the lines and parse them in each part again, days
+     * with an explicit parse stage ({@link ParsedDay}) parse exactly once here.
+     *
+     * @param input Input lines as list (same for both parts)
+     * @return Prepared input, its parts can be solved in any order or in parallel
+     */
+    default Prepared prepare(final List<String> input) {
+        return new Prepared() {
+            @Override
+            public Object part1() {
+                return Day.this.part1(input);
+            }
+            
+            @Override
+            public Object part2() {
+                return Day.this.part2(input);
+            }
+        };
+    }
+    
+    /**
+     * Prepares a (memory-mapped) input for solving both parts.
+     *
+     * @param input Input (same for both parts)
+     * @return Prepared input, its parts can be solved in any order or in parallel
+     * @see #prepare(List)
+     */
+    default Prepared prepare(final Input input) {
+        return new Prepared() {
+            @Override
+            public Object part1() {
+                return Day.this.part1(input);
+            }
+            
+            @Override
+            public Object part2() {
+                return Day.this.part2(input);
+            }
+        };
+    }
+    
+    /**
+     * An input prepared by a day, ready to solve.
+     */
+    interface Prepared {
+        /**
+         * Solve part 1
+         *
+         * @return Solution
+         */
+        Object part1();
+        
+        /**
+         * Solve part 2
+         *
+         * @return Solution
+         */
+        Object part2();
+        
+        /**
+         * Solve part 1 with a deadline and progress reporting
+         *
+         * @param context Context bound to the solving thread
+         * @return Solution
+         * @throws SolveCancelledException If the context stopped the solve
+         */
+        default Object part1(final SolveContext context) {
+            return context.call(this::part1);
+        }
+        
+        /**
+         * Solve part 2 with a deadline and progress reporting
+         *
+         * @param context Context bound to the solving thread
+         * @return Solution
+         * @throws SolveCancelledException If the context stopped the solve
+         */
+        default Object part2(final SolveContext context) {
+            return context.call(this::part2);
+        }
+    }
 }
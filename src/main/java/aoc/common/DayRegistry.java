@@ -0,0 +1,143 @@
+package aoc.common;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.lang.reflect.InvocationTargetException;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.NavigableMap;
+import java.util.NavigableSet;
+import java.util.ServiceLoader;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.regex.Pattern;
+
+/**
+ * Lazy registry of all days.<br>
+ * The days are declared as {@link ServiceLoader} providers in {@code META-INF/services/aoc.common.Day}. Only the
+ * provider names are read from there to build the index, so a day class is loaded (and its static state initialized)
+ * just when that day is created. A {@link ServiceLoader} iteration would load every provider class up front.
+ */
+public final class DayRegistry {
+    private static final String  SERVICE_FILE = "META-INF/services/" + Day.class.getName(); //NON-NLS
+    private static final Pattern DAY_CLASS    = Pattern.compile("Day(\\d+)$"); //NON-NLS
+    
+    private DayRegistry() {}
+    
+    /**
+     * Gets all registered days.
+     *
+     * @return Day numbers in ascending order
+     */
+    public static NavigableSet<Integer> days() {
+        return Collections.unmodifiableNavigableSet(Index.CLASS_NAMES.navigableKeySet());
+    }
+    
+    /**
+     * Gets the class name of a day without loading it.
+     *
+     * @param day Day number
+     * @return Fully qualified class name
+     */
+    public static String getClassName(final int day) {
+        final var className = Index.CLASS_NAMES.get(day);
+        
+        if (className == null) {
+            throw new IllegalArgumentException("Unknown day: %d".formatted(day));
+        }
+        
+        return className;
+    }
+    
+    /**
+     * Creates a new instance of a day, loading its class on first use.
+     *
+     * @param day Day number
+     * @return Day instance
+     */
+    public static Day create(final int day) {
+        final var className = getClassName(day);
+        
+        try {
+            return Class.forName(className)
+                        .asSubclass(Day.class)
+                        .getDeclaredConstructor()
+                        .newInstance();
+        } catch (final ClassNotFoundException | NoSuchMethodException | InstantiationException |
+                       IllegalAccessException | InvocationTargetException e) {
+            throw new IllegalStateException("Cannot create day %d (%s)".formatted(day, className), e);
+        }
+    }
+    
+    /**
+     * Creates a new instance of a day and picks one of its {@link Day#strategies()}.
+     *
+     * @param day      Day number
+     * @param strategy Strategy name, see {@link Day#REFERENCE}
+     * @return Day instance of the strategy
+     */
+    public static Day create(final int day, final String strategy) {
+        final var strategies = create(day).strategies();
+        final var instance   = strategies.get(strategy);
+        
+        if (instance == null) {
+            throw new IllegalArgumentException("Unknown strategy for day %d: %s (known: %s)".formatted(
+                    day, strategy, new TreeSet<>(strategies.keySet())));
+        }
+        
+        return instance;
+    }
+    
+    /**
+     * Index of the provider names, read once on first access (lazy holder).
+     */
+    private static final class Index {
+        private static final NavigableMap<Integer, String> CLASS_NAMES = readClassNames();
+        
+        private static NavigableMap<Integer, String> readClassNames() {
+            final var classNames = new TreeMap<Integer, String>();
+            
+            try {
+                final var resources = DayRegistry.class.getClassLoader().getResources(SERVICE_FILE);
+                
+                while (resources.hasMoreElements()) {
+                    final var url = resources.nextElement();
+                    
+                    try (final var reader = new BufferedReader(new InputStreamReader(url.openStream(),
+                                                                                     StandardCharsets.UTF_8))) {
+                        reader.lines().forEach(line -> addClassName(classNames, line));
+                    }
+                }
+            } catch (final IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            
+            return classNames;
+        }
+        
+        private static void addClassName(final NavigableMap<Integer, String> classNames, final String line) {
+            // Same format as the ServiceLoader expects: one class name per line, '#' starts a comment.
+            final var comment   = line.indexOf('#');
+            final var className = (comment < 0 ? line : line.substring(0, comment)).trim();
+            
+            if (className.isEmpty()) {
+                return;
+            }
+            
+            final var matcher = DAY_CLASS.matcher(className);
+            
+            if (!matcher.find()) {
+                throw new IllegalStateException("Day class without day number: %s".formatted(className));
+            }
+            
+            final var previous = classNames.put(Integer.parseInt(matcher.group(1)), className);
+            
+            if (previous != null && !previous.equals(className)) {
+                throw new IllegalStateException("Day %s registered twice: %s and %s".formatted(matcher.group(1),
+                                                                                               previous, className));
+            }
+        }
+    }
+}
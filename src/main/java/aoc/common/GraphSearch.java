@@ -0,0 +1,235 @@
+package aoc.common;
+
+import org.jetbrains.annotations.Nullable;
+
+import java.util.BitSet;
+import java.util.function.IntPredicate;
+
+/**
+ * Reusable shortest path search over graphs whose nodes are the ints {@code 0} to {@code nodes - 1}.<br>
+ * The graph itself is never stored: the caller only tells which neighbours a node has, e.g. by index arithmetic on a
+ * {@link Grid}. Visited nodes are tracked in a {@link BitSet}, the distances in a plain int array and the frontier in
+ * an {@link IntQueue} (unit weights) or a {@link BucketQueue} (small integer weights). All of it is kept between
+ * searches and only cleared, so running many searches on the same graph allocates nothing (the bucket queue is created
+ * by the first weighted search and only replaced when a later one needs larger weights).<br>
+ * Every search accepts several sources (multi-source search), which all start at distance zero. The results of a
+ * search ({@link #distance(int)}, {@link #visited(int)}) stay valid until the next search starts.
+ */
+public final class GraphSearch {
+    private final int      nodes;
+    private final BitSet   visited;
+    private final int[]    distances;
+    private final int[]    neighbours;
+    private final int[]    weights;
+    private final IntQueue queue;
+    
+    private @Nullable BucketQueue buckets;
+    private @Nullable BitSet      settled;
+    private           int         maxWeight;
+    
+    /**
+     * Unweighted neighbours of a node.
+     */
+    @FunctionalInterface
+    public interface Neighbours {
+        /**
+         * Writes the neighbours of a node into the buffer.
+         *
+         * @param node The node.
+         * @param out  The buffer for the neighbours, {@code maxDegree} long.
+         * @return The number of neighbours written.
+         */
+        int get(int node, int[] out);
+    }
+    
+    /**
+     * Weighted neighbours of a node.
+     */
+    @FunctionalInterface
+    public interface WeightedNeighbours {
+        /**
+         * Writes the neighbours of a node and the weights of the edges to them into the buffers.
+         *
+         * @param node    The node.
+         * @param out     The buffer for the neighbours, {@code maxDegree} long.
+         * @param weights The buffer for the (non-negative) edge weights, {@code maxDegree} long.
+         * @return The number of neighbours written.
+         */
+        int get(int node, int[] out, int[] weights);
+    }
+    
+    /**
+     * Creates a search for a graph.
+     *
+     * @param nodes     The number of nodes.
+     * @param maxDegree The largest number of neighbours any node has.
+     */
+    public GraphSearch(final int nodes, final int maxDegree) {
+        if (nodes < 0 || maxDegree < 0) {
+            throw new IllegalArgumentException("Invalid graph size: %d nodes, degree %d".formatted(nodes, maxDegree));
+        }
+        this.nodes = nodes;
+        visited = new BitSet(nodes);
+        distances = new int[nodes];
+        neighbours = new int[maxDegree];
+        weights = new int[maxDegree];
+        queue = new IntQueue();
+    }
+    
+    /**
+     * Gets the number of nodes.
+     *
+     * @return The number of nodes.
+     */
+    public int nodes() {
+        return nodes;
+    }
+    
+    /**
+     * Breadth-first search, visiting every node reachable from the sources.
+     *
+     * @param graph   The neighbours.
+     * @param sources The nodes to start from.
+     */
+    public void bfs(final Neighbours graph, final int... sources) {
+        bfs(graph, node -> false, sources);
+    }
+    
+    /**
+     * Breadth-first search, which stops at the first (i.e. closest) node matching the target.
+     *
+     * @param graph   The neighbours.
+     * @param target  The nodes to search for.
+     * @param sources The nodes to start from.
+     * @return The first node matching the target, or -1 if none is reachable.
+     */
+    public int bfs(final Neighbours graph, final IntPredicate target, final int... sources) {
+        start(sources);
+        
+        for (final var source : sources) {
+            queue.add(source);
+        }
+        
+        while (!queue.isEmpty()) {
+            final var node = queue.poll();
+            
+            if (target.test(node)) {
+                return node;
+            }
+            
+            final var distance = distances[node] + 1;
+            final var count    = graph.get(node, neighbours);
+            
+            for (var i = 0; i < count; i++) {
+                final var neighbour = neighbours[i];
+                
+                if (!visited.get(neighbour)) {
+                    visited.set(neighbour);
+                    distances[neighbour] = distance;
+                    queue.add(neighbour);
+                }
+            }
+        }
+        
+        return -1;
+    }
+    
+    /**
+     * Dijkstra's search with a {@link BucketQueue}, which stops at the first (i.e. closest) node matching the target.
+     *
+     * @param graph     The weighted neighbours.
+     * @param maxWeight The largest weight of any edge.
+     * @param target    The nodes to search for.
+     * @param sources   The nodes to start from.
+     * @return The first node matching the target, or -1 if none is reachable.
+     */
+    public int dijkstra(final WeightedNeighbours graph, final int maxWeight, final IntPredicate target,
+                        final int... sources) {
+        final var buckets = buckets(maxWeight);
+        final var settled = settled();
+        
+        start(sources);
+        
+        for (final var source : sources) {
+            buckets.add(source, 0);
+        }
+        
+        while (!buckets.isEmpty()) {
+            final var node = buckets.poll();
+            
+            // Stale entry, the node was already settled with a shorter distance.
+            if (settled.get(node) || buckets.priority() > distances[node]) {
+                continue;
+            }
+            settled.set(node);
+            
+            if (target.test(node)) {
+                return node;
+            }
+            
+            final var count = graph.get(node, neighbours, weights);
+            
+            for (var i = 0; i < count; i++) {
+                final var neighbour = neighbours[i];
+                final var distance  = distances[node] + weights[i];
+                
+                if (!visited.get(neighbour) || distance < distances[neighbour]) {
+                    visited.set(neighbour);
+                    distances[neighbour] = distance;
+                    buckets.add(neighbour, distance);
+                }
+            }
+        }
+        
+        return -1;
+    }
+    
+    /**
+     * Checks if the last search reached a node.
+     *
+     * @param node The node.
+     * @return True if the node was reached.
+     */
+    public boolean visited(final int node) {
+        return visited.get(node);
+    }
+    
+    /**
+     * Gets the distance of a node from the closest source in the last search.
+     *
+     * @param node The node.
+     * @return The distance, or -1 if the node was not reached.
+     */
+    public int distance(final int node) {
+        return visited.get(node) ? distances[node] : -1;
+    }
+    
+    private BucketQueue buckets(final int maxWeight) {
+        if (buckets == null || maxWeight > this.maxWeight) {
+            buckets = new BucketQueue(maxWeight);
+            this.maxWeight = maxWeight;
+        } else {
+            buckets.clear();
+        }
+        return buckets;
+    }
+    
+    private BitSet settled() {
+        if (settled == null) {
+            settled = new BitSet(nodes);
+        } else {
+            settled.clear();
+        }
+        return settled;
+    }
+    
+    private void start(final int... sources) {
+        visited.clear();
+        queue.clear();
+        
+        for (final var source : sources) {
+            visited.set(source);
+            distances[source] = 0;
+        }
+    }
+}
@@ -0,0 +1,185 @@
+package aoc.common;
+
+import java.util.List;
+import java.util.function.IntConsumer;
+
+/**
+ * Base class of the dense grids ({@link ByteGrid}, {@link IntGrid}, {@link CharGrid}).<br>
+ * The cells are stored row-major in a single flat array, optionally surrounded by a border of padding cells. With a
+ * border, the neighbours of every cell exist in the array, so walking them never needs a bounds check (the border just
+ * holds a fill value the caller can recognize). Coordinates are always relative to the unpadded area, so the border
+ * cells have coordinates from {@code -padding} to {@code width + padding - 1}.
+ */
+public abstract class Grid {
+    private final int   width;
+    private final int   height;
+    private final int   padding;
+    private final int   stride;
+    private final int   length;
+    private final int[] neighbourOffsets;
+    
+    /**
+     * Creates the grid geometry.
+     *
+     * @param width   The width of the unpadded area.
+     * @param height  The height of the unpadded area.
+     * @param padding The size of the border around the unpadded area.
+     */
+    protected Grid(final int width, final int height, final int padding) {
+        if (width < 0 || height < 0 || padding < 0) {
+            throw new IllegalArgumentException("Invalid grid size: %dx%d (+%d)".formatted(width, height, padding));
+        }
+        
+        this.width = width;
+        this.height = height;
+        this.padding = padding;
+        this.stride = width + 2 * padding;
+        this.length = Math.multiplyExact(stride, height + 2 * padding);
+        // Same order as Point.getNeighbours(): up, right, down, left (with y growing downwards like the array).
+        this.neighbourOffsets = new int[]{stride, 1, -stride, -1};
+    }
+    
+    /**
+     * Gets the width of the unpadded area.
+     *
+     * @return The width.
+     */
+    public final int width() {
+        return width;
+    }
+    
+    /**
+     * Gets the height of the unpadded area.
+     *
+     * @return The height.
+     */
+    public final int height() {
+        return height;
+    }
+    
+    /**
+     * Gets the size of the border around the unpadded area.
+     *
+     * @return The padding.
+     */
+    public final int padding() {
+        return padding;
+    }
+    
+    /**
+     * Gets the number of cells per row in the backing array (width plus padding on both sides).
+     *
+     * @return The stride.
+     */
+    public final int stride() {
+        return stride;
+    }
+    
+    /**
+     * Gets the number of cells in the backing array, including the border.
+     *
+     * @return The length of the backing array.
+     */
+    public final int length() {
+        return length;
+    }
+    
+    /**
+     * Gets the index in the backing array of the given coordinates.
+     *
+     * @param x The x coordinate.
+     * @param y The y coordinate.
+     * @return The index.
+     */
+    public final int index(final int x, final int y) {
+        return (y + padding) * stride + x + padding;
+    }
+    
+    /**
+     * Gets the x coordinate of an index in the backing array.
+     *
+     * @param index The index.
+     * @return The x coordinate.
+     */
+    public final int x(final int index) {
+        return index % stride - padding;
+    }
+    
+    /**
+     * Gets the y coordinate of an index in the backing array.
+     *
+     * @param index The index.
+     * @return The y coordinate.
+     */
+    public final int y(final int index) {
+        return index / stride - padding;
+    }
+    
+    /**
+     * Checks if the coordinates are inside the unpadded area.
+     *
+     * @param x The x coordinate.
+     * @param y The y coordinate.
+     * @return True if the coordinates are inside the grid.
+     */
+    public final boolean contains(final int x, final int y) {
+        return x >= 0 && x < width && y >= 0 && y < height;
+    }
+    
+    /**
+     * Gets the difference of two indices, which are dx and dy apart. Adding it to an index moves by (dx, dy).
+     *
+     * @param dx The difference in x.
+     * @param dy The difference in y.
+     * @return The index offset.
+     */
+    public final int offset(final int dx, final int dy) {
+        return dy * stride + dx;
+    }
+    
+    /**
+     * Visits the indices of the four direct neighbours of an index. With a padding, the border cells are visited like
+     * any other cell, without a padding only the neighbours inside the grid are visited.
+     *
+     * @param index  The index.
+     * @param action The action to perform for each neighbour index.
+     */
+    public final void forEachNeighbour(final int index, final IntConsumer action) {
+        if (padding > 0) {
+            for (final var offset : neighbourOffsets) {
+                action.accept(index + offset);
+            }
+            return;
+        }
+        
+        final var x = x(index);
+        final var y = y(index);
+        
+        if (y + 1 < height) {
+            action.accept(index + stride);
+        }
+        if (x + 1 < width) {
+            action.accept(index + 1);
+        }
+        if (y > 0) {
+            action.accept(index - stride);
+        }
+        if (x > 0) {
+            action.accept(index - 1);
+        }
+    }
+    
+    /**
+     * Gets the width of the widest line, i.e. the width of a grid parsed from the lines.
+     *
+     * @param lines The lines.
+     * @return The maximum line length.
+     */
+    static int maxLength(final List<? extends CharSequence> lines) {
+        var width = 0;
+        for (final var line : lines) {
+            width = Math.max(width, line.length());
+        }
+        return width;
+    }
+}
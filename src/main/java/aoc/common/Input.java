@@ -0,0 +1,226 @@
+package aoc.common;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * Puzzle input backed by a (memory-mapped) byte buffer.<br>
+ * Lines are exposed as {@link Line} views into the buffer, so nothing is decoded or copied until a day asks for it.
+ * The inputs are plain ASCII, so every byte is exactly one char. Both {@code \n} and {@code \r\n} line endings are
+ * supported and, like {@link java.nio.file.Files#readAllLines(Path)}, a trailing line break does not add an empty
+ * line.
+ */
+public final class Input implements Iterable<Input.Line> {
+    private final ByteBuffer buffer;
+    private final int[]      starts;
+    private final int[]      ends;
+    private final int        size;
+    
+    private List<String> lines;
+    
+    private Input(final ByteBuffer buffer) {
+        final var limit = buffer.limit();
+        var       count = 0;
+        var       ends  = new int[64];
+        
+        // First pass only records the end of each line, the starts are derived from it.
+        for (var i = 0; i < limit; i++) {
+            if (buffer.get(i) == '\n') {
+                if (count == ends.length) {
+                    ends = Arrays.copyOf(ends, count * 2);
+                }
+                ends[count++] = i;
+            }
+        }
+        if (limit > 0 && buffer.get(limit - 1) != '\n') {
+            if (count == ends.length) {
+                ends = Arrays.copyOf(ends, count + 1);
+            }
+            ends[count++] = limit;
+        }
+        
+        this.buffer = buffer;
+        this.size = count;
+        this.starts = new int[count];
+        this.ends = ends;
+        
+        for (var i = 1; i < count; i++) {
+            starts[i] = ends[i - 1] + 1;
+        }
+        for (var i = 0; i < count; i++) {
+            if (ends[i] > starts[i] && buffer.get(ends[i] - 1) == '\r') {
+                ends[i]--;
+            }
+        }
+    }
+    
+    /**
+     * Memory-maps the given file read-only. The mapping stays valid after the file channel is closed.
+     *
+     * @param path Path to the input file (must be smaller than 2 GB)
+     * @return Input backed by the mapped file
+     * @throws IOException If an I/O error occurs
+     */
+    public static Input map(final Path path) throws IOException {
+        try (final var channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            if (channel.size() > Integer.MAX_VALUE) {
+                throw new IllegalArgumentException("Input too large to map: %s".formatted(path));
+            }
+            return new Input(channel.map(FileChannel.MapMode.READ_ONLY, 0L, channel.size()));
+        }
+    }
+    
+    /**
+     * Wraps raw input bytes, e.g. a request body. The bytes are not copied.
+     *
+     * @param bytes ASCII encoded input
+     * @return Input backed by a heap buffer
+     */
+    public static Input wrap(final byte[] bytes) {
+        return new Input(ByteBuffer.wrap(bytes));
+    }
+    
+    /**
+     * Wraps already loaded lines, e.g. for tests or generated inputs.
+     *
+     * @param lines Input lines
+     * @return Input backed by a heap buffer
+     */
+    public static Input of(final List<String> lines) {
+        final var text = new StringBuilder();
+        
+        // Every line keeps its terminator, so an empty last line is not taken for the end of the input.
+        for (final var line : lines) {
+            text.append(line).append('\n');
+        }
+        
+        return wrap(text.toString().getBytes(StandardCharsets.US_ASCII));
+    }
+    
+    /**
+     * Gets the number of lines.
+     *
+     * @return Number of lines
+     */
+    public int size() {
+        return size;
+    }
+    
+    /**
+     * Gets a view of the given line.
+     *
+     * @param index Line index (zero based)
+     * @return View of the line, without line break
+     */
+    public Line line(final int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException(index);
+        }
+        return new Line(buffer, starts[index], ends[index] - starts[index]);
+    }
+    
+    /**
+     * Gets the lines as list of strings, for days which work on {@code List<String>}.<br>
+     * Each line is only decoded on first access and then cached.
+     *
+     * @return Lines adapter (read-only)
+     */
+    public List<String> lines() {
+        if (lines == null) {
+            lines = new LinesAdapter();
+        }
+        //noinspection AssignmentOrReturnOfFieldWithMutableType
+        return lines;
+    }
+    
+    @Override
+    public @NotNull Iterator<Line> iterator() {
+        return new Iterator<>() {
+            private int index = 0;
+            
+            @Override
+            public boolean hasNext() {
+                return index < size;
+            }
+            
+            @Override
+            public Line next() {
+                if (index >= size) {
+                    throw new NoSuchElementException();
+                }
+                return line(index++);
+            }
+        };
+    }
+    
+    private final class LinesAdapter extends AbstractList<String> {
+        private final String[] decoded = new String[size];
+        
+        @Override
+        public String get(final int index) {
+            if (decoded[index] == null) {
+                decoded[index] = line(index).toString();
+            }
+            return decoded[index];
+        }
+        
+        @Override
+        public int size() {
+            return size;
+        }
+    }
+    
+    /**
+     * A single line as lightweight view (offset and length) into the input buffer.
+     */
+    public static final class Line implements CharSequence {
+        private final ByteBuffer buffer;
+        private final int        offset;
+        private final int        length;
+        
+        private Line(final ByteBuffer buffer, final int offset, final int length) {
+            this.buffer = buffer;
+            this.offset = offset;
+            this.length = length;
+        }
+        
+        @Override
+        public int length() {
+            return length;
+        }
+        
+        @Override
+        public char charAt(final int index) {
+            if (index < 0 || index >= length) {
+                throw new IndexOutOfBoundsException(index);
+            }
+            return (char) (buffer.get(offset + index) & 0xFF);
+        }
+        
+        @Override
+        public @NotNull Line subSequence(final int start, final int end) {
+            if (start < 0 || end > length || start > end) {
+                throw new IndexOutOfBoundsException("[%d, %d) of %d".formatted(start, end, length));
+            }
+            return new Line(buffer, offset + start, end - start);
+        }
+        
+        @Override
+        public @NotNull String toString() {
+            final var bytes = new byte[length];
+            buffer.get(offset, bytes);
+            return new String(bytes, StandardCharsets.US_ASCII);
+        }
+    }
+}
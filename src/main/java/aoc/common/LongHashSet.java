@@ -0,0 +1,251 @@
+package aoc.common;
+
+import java.util.Arrays;
+import java.util.function.LongConsumer;
+
+/**
+ * Set of primitive longs using open addressing with linear probing.<br>
+ * Meant for packed coordinates (see {@link Point#pack(int, int)}): no boxing and no node per entry, a stored element
+ * costs between 16 and 32 bytes. The slot is found by Fibonacci hashing (multiply and shift), which spreads even
+ * neighbouring coordinates over the table without any branching. Removal uses backward shifting, so there are no
+ * tombstones slowing down later lookups.
+ */
+public final class LongHashSet {
+    // Slots with this key are free, the key itself is tracked separately by hasFreeKey.
+    private static final long FREE_KEY = 0L;
+    
+    private long[]  keys;
+    private int     mask;
+    private int     shift;
+    private int     size;
+    private boolean hasFreeKey;
+    
+    /**
+     * Creates a new, empty set.
+     */
+    public LongHashSet() {
+        this(16);
+    }
+    
+    /**
+     * Creates a new, empty set which can hold the expected number of elements without resizing.
+     *
+     * @param expectedSize The expected number of elements.
+     */
+    public LongHashSet(final int expectedSize) {
+        allocate(capacityFor(expectedSize));
+    }
+    
+    /**
+     * Creates a copy of the given set.
+     *
+     * @param other The set to copy.
+     */
+    public LongHashSet(final LongHashSet other) {
+        keys = other.keys.clone();
+        mask = other.mask;
+        shift = other.shift;
+        size = other.size;
+        hasFreeKey = other.hasFreeKey;
+    }
+    
+    /**
+     * Adds an element.
+     *
+     * @param key The element to add.
+     * @return True if the element was not yet contained.
+     */
+    public boolean add(final long key) {
+        if (key == FREE_KEY) {
+            if (hasFreeKey) {
+                return false;
+            }
+            hasFreeKey = true;
+            size++;
+            return true;
+        }
+        
+        var slot = slot(key);
+        
+        while (keys[slot] != FREE_KEY) {
+            if (keys[slot] == key) {
+                return false;
+            }
+            slot = (slot + 1) & mask;
+        }
+        
+        keys[slot] = key;
+        
+        if (++size > (mask + 1) >> 1) {
+            rehash(keys.length << 1);
+        }
+        
+        return true;
+    }
+    
+    /**
+     * Checks if an element is contained.
+     *
+     * @param key The element to check.
+     * @return True if the element is contained.
+     */
+    public boolean contains(final long key) {
+        if (key == FREE_KEY) {
+            return hasFreeKey;
+        }
+        
+        var slot = slot(key);
+        
+        while (keys[slot] != FREE_KEY) {
+            if (keys[slot] == key) {
+                return true;
+            }
+            slot = (slot + 1) & mask;
+        }
+        
+        return false;
+    }
+    
+    /**
+     * Removes an element.
+     *
+     * @param key The element to remove.
+     * @return True if the element was contained.
+     */
+    public boolean remove(final long key) {
+        if (key == FREE_KEY) {
+            if (!hasFreeKey) {
+                return false;
+            }
+            hasFreeKey = false;
+            size--;
+            return true;
+        }
+        
+        var slot = slot(key);
+        
+        while (keys[slot] != key) {
+            if (keys[slot] == FREE_KEY) {
+                return false;
+            }
+            slot = (slot + 1) & mask;
+        }
+        
+        size--;
+        
+        // Shift back all following entries of the cluster which would be unreachable otherwise.
+        var next = slot;
+        while (true) {
+            next = (next + 1) & mask;
+            
+            final var nextKey = keys[next];
+            
+            if (nextKey == FREE_KEY) {
+                break;
+            }
+            if (((next - slot(nextKey)) & mask) >= ((next - slot) & mask)) {
+                keys[slot] = nextKey;
+                slot = next;
+            }
+        }
+        
+        keys[slot] = FREE_KEY;
+        
+        return true;
+    }
+    
+    /**
+     * Gets the number of elements.
+     *
+     * @return The number of elements.
+     */
+    public int size() {
+        return size;
+    }
+    
+    /**
+     * Checks if the set is empty.
+     *
+     * @return True if there are no elements.
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+    
+    /**
+     * Removes all elements, the capacity is kept.
+     */
+    public void clear() {
+        Arrays.fill(keys, FREE_KEY);
+        size = 0;
+        hasFreeKey = false;
+    }
+    
+    /**
+     * Performs the given action for each element (in no particular order). The set must not be modified meanwhile.
+     *
+     * @param action The action to perform.
+     */
+    public void forEach(final LongConsumer action) {
+        if (hasFreeKey) {
+            action.accept(FREE_KEY);
+        }
+        for (final var key : keys) {
+            if (key != FREE_KEY) {
+                action.accept(key);
+            }
+        }
+    }
+    
+    /**
+     * Copies all elements into a new array (in no particular order), e.g. to modify the set while iterating.
+     *
+     * @return The elements.
+     */
+    public long[] toArray() {
+        final var result = new long[size];
+        var       index  = 0;
+        
+        if (hasFreeKey) {
+            result[index++] = FREE_KEY;
+        }
+        for (final var key : keys) {
+            if (key != FREE_KEY) {
+                result[index++] = key;
+            }
+        }
+        
+        return result;
+    }
+    
+    private int slot(final long key) {
+        return (int) ((key * 0x9E37_79B9_7F4A_7C15L) >>> shift);
+    }
+    
+    private void allocate(final int capacity) {
+        keys = new long[capacity];
+        mask = capacity - 1;
+        shift = Long.numberOfLeadingZeros(mask);
+    }
+    
+    private void rehash(final int capacity) {
+        final var oldKeys = keys;
+        
+        allocate(capacity);
+        
+        for (final var key : oldKeys) {
+            if (key != FREE_KEY) {
+                var slot = slot(key);
+                while (keys[slot] != FREE_KEY) {
+                    slot = (slot + 1) & mask;
+                }
+                keys[slot] = key;
+            }
+        }
+    }
+    
+    // Smallest power of two which keeps the load factor at or below 0.5.
+    static int capacityFor(final int expectedSize) {
+        return Math.max(16, Integer.highestOneBit(Math.max(1, expectedSize) * 2 - 1) << 1);
+    }
+}
@@ -0,0 +1,286 @@
+package aoc.common;
+
+import java.util.Arrays;
+
+/**
+ * Map from primitive longs to primitive ints using open addressing with linear probing.<br>
+ * Same layout and hashing as {@link LongHashSet}, with the values stored in a parallel array. Meant for packed
+ * coordinates (see {@link Point#pack(int, int)}), e.g. to count or mark cells without boxing.
+ */
+public final class LongIntHashMap {
+    private static final long FREE_KEY = 0L;
+    
+    private long[]  keys;
+    private int[]   values;
+    private int     mask;
+    private int     shift;
+    private int     size;
+    private boolean hasFreeKey;
+    private int     freeKeyValue;
+    
+    /**
+     * Consumer for the entries of the map.
+     */
+    @FunctionalInterface
+    public interface EntryConsumer {
+        /**
+         * Performs this operation on the given entry.
+         *
+         * @param key   The key.
+         * @param value The value.
+         */
+        void accept(final long key, final int value);
+    }
+    
+    /**
+     * Creates a new, empty map.
+     */
+    public LongIntHashMap() {
+        this(16);
+    }
+    
+    /**
+     * Creates a new, empty map which can hold the expected number of entries without resizing.
+     *
+     * @param expectedSize The expected number of entries.
+     */
+    public LongIntHashMap(final int expectedSize) {
+        allocate(LongHashSet.capacityFor(expectedSize));
+    }
+    
+    /**
+     * Gets the value of a key.
+     *
+     * @param key          The key.
+     * @param defaultValue The value returned if the key is not contained.
+     * @return The value of the key or the default value.
+     */
+    public int get(final long key, final int defaultValue) {
+        if (key == FREE_KEY) {
+            return hasFreeKey ? freeKeyValue : defaultValue;
+        }
+        
+        var slot = slot(key);
+        
+        while (keys[slot] != FREE_KEY) {
+            if (keys[slot] == key) {
+                return values[slot];
+            }
+            slot = (slot + 1) & mask;
+        }
+        
+        return defaultValue;
+    }
+    
+    /**
+     * Checks if a key is contained.
+     *
+     * @param key The key.
+     * @return True if the key is contained.
+     */
+    public boolean containsKey(final long key) {
+        if (key == FREE_KEY) {
+            return hasFreeKey;
+        }
+        
+        var slot = slot(key);
+        
+        while (keys[slot] != FREE_KEY) {
+            if (keys[slot] == key) {
+                return true;
+            }
+            slot = (slot + 1) & mask;
+        }
+        
+        return false;
+    }
+    
+    /**
+     * Sets the value of a key.
+     *
+     * @param key   The key.
+     * @param value The new value.
+     */
+    public void put(final long key, final int value) {
+        if (key == FREE_KEY) {
+            if (!hasFreeKey) {
+                hasFreeKey = true;
+                size++;
+            }
+            freeKeyValue = value;
+            return;
+        }
+        
+        final var slot = findOrInsert(key);
+        values[slot] = value;
+    }
+    
+    /**
+     * Adds a delta to the value of a key, missing keys start at 0 (e.g. to count occurrences).
+     *
+     * @param key   The key.
+     * @param delta The delta to add.
+     * @return The new value.
+     */
+    public int addTo(final long key, final int delta) {
+        if (key == FREE_KEY) {
+            if (!hasFreeKey) {
+                hasFreeKey = true;
+                freeKeyValue = 0;
+                size++;
+            }
+            freeKeyValue += delta;
+            return freeKeyValue;
+        }
+        
+        final var slot = findOrInsert(key);
+        values[slot] += delta;
+        return values[slot];
+    }
+    
+    /**
+     * Removes a key.
+     *
+     * @param key The key.
+     * @return True if the key was contained.
+     */
+    public boolean remove(final long key) {
+        if (key == FREE_KEY) {
+            if (!hasFreeKey) {
+                return false;
+            }
+            hasFreeKey = false;
+            size--;
+            return true;
+        }
+        
+        var slot = slot(key);
+        
+        while (keys[slot] != key) {
+            if (keys[slot] == FREE_KEY) {
+                return false;
+            }
+            slot = (slot + 1) & mask;
+        }
+        
+        size--;
+        
+        // Shift back all following entries of the cluster which would be unreachable otherwise.
+        var next = slot;
+        while (true) {
+            next = (next + 1) & mask;
+            
+            final var nextKey = keys[next];
+            
+            if (nextKey == FREE_KEY) {
+                break;
+            }
+            if (((next - slot(nextKey)) & mask) >= ((next - slot) & mask)) {
+                keys[slot] = nextKey;
+                values[slot] = values[next];
+                slot = next;
+            }
+        }
+        
+        keys[slot] = FREE_KEY;
+        
+        return true;
+    }
+    
+    /**
+     * Gets the number of entries.
+     *
+     * @return The number of entries.
+     */
+    public int size() {
+        return size;
+    }
+    
+    /**
+     * Checks if the map is empty.
+     *
+     * @return True if there are no entries.
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+    
+    /**
+     * Removes all entries, the capacity is kept.
+     */
+    public void clear() {
+        Arrays.fill(keys, FREE_KEY);
+        size = 0;
+        hasFreeKey = false;
+    }
+    
+    /**
+     * Performs the given action for each entry (in no particular order). The map must not be modified meanwhile.
+     *
+     * @param action The action to perform.
+     */
+    public void forEach(final EntryConsumer action) {
+        if (hasFreeKey) {
+            action.accept(FREE_KEY, freeKeyValue);
+        }
+        for (var slot = 0; slot < keys.length; slot++) {
+            if (keys[slot] != FREE_KEY) {
+                action.accept(keys[slot], values[slot]);
+            }
+        }
+    }
+    
+    private int findOrInsert(final long key) {
+        var slot = slot(key);
+        
+        while (keys[slot] != FREE_KEY) {
+            if (keys[slot] == key) {
+                return slot;
+            }
+            slot = (slot + 1) & mask;
+        }
+        
+        if (size + 1 > (mask + 1) >> 1) {
+            rehash(keys.length << 1);
+            slot = slot(key);
+            while (keys[slot] != FREE_KEY) {
+                slot = (slot + 1) & mask;
+            }
+        }
+        
+        keys[slot] = key;
+        values[slot] = 0;
+        size++;
+        
+        return slot;
+    }
+    
+    private int slot(final long key) {
+        return (int) ((key * 0x9E37_79B9_7F4A_7C15L) >>> shift);
+    }
+    
+    private void allocate(final int capacity) {
+        keys = new long[capacity];
+        values = new int[capacity];
+        mask = capacity - 1;
+        shift = Long.numberOfLeadingZeros(mask);
+    }
+    
+    private void rehash(final int capacity) {
+        final var oldKeys   = keys;
+        final var oldValues = values;
+        
+        allocate(capacity);
+        
+        for (var i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != FREE_KEY) {
+                var slot = slot(oldKeys[i]);
+                while (keys[slot] != FREE_KEY) {
+                    slot = (slot + 1) & mask;
+                }
+                keys[slot] = oldKeys[i];
+                values[slot] = oldValues[i];
+            }
+        }
+    }
+}
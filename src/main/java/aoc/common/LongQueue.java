@@ -0,0 +1,93 @@
+package aoc.common;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+/**
+ * FIFO queue of primitive longs, backed by a growing ring buffer.<br>
+ * Meant for packed points (see {@link Point#pack(int, int)}) in flood fills: no boxing and, once the buffer is large
+ * enough, no allocation at all. Clearing only resets the cursors, so one queue can be reused for many fills.
+ */
+public final class LongQueue {
+    private long[] elements;
+    private int    head;
+    private int    size;
+    
+    /**
+     * Creates a new, empty queue.
+     */
+    public LongQueue() {
+        this(16);
+    }
+    
+    /**
+     * Creates a new, empty queue which can hold the expected number of elements without resizing.
+     *
+     * @param expectedSize The expected number of elements.
+     */
+    public LongQueue(final int expectedSize) {
+        elements = new long[Integer.highestOneBit(Math.max(expectedSize - 1, 1)) << 1];
+    }
+    
+    /**
+     * Adds an element at the tail.
+     *
+     * @param value The element to add.
+     */
+    public void add(final long value) {
+        if (size == elements.length) {
+            grow();
+        }
+        elements[head + size++ & elements.length - 1] = value;
+    }
+    
+    /**
+     * Removes the element at the head.
+     *
+     * @return The removed element.
+     * @throws NoSuchElementException If the queue is empty.
+     */
+    public long poll() {
+        if (size == 0) {
+            throw new NoSuchElementException("Queue is empty");
+        }
+        final var value = elements[head];
+        head = head + 1 & elements.length - 1;
+        size--;
+        return value;
+    }
+    
+    /**
+     * Checks if the queue is empty.
+     *
+     * @return True if there are no elements.
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+    
+    /**
+     * Gets the number of elements.
+     *
+     * @return The number of elements.
+     */
+    public int size() {
+        return size;
+    }
+    
+    /**
+     * Removes all elements, keeping the buffer.
+     */
+    public void clear() {
+        head = 0;
+        size = 0;
+    }
+    
+    // Unrolls the ring, so the head is at zero again in the doubled buffer.
+    private void grow() {
+        final var grown = Arrays.copyOfRange(elements, head, head + elements.length * 2);
+        System.arraycopy(elements, 0, grown, elements.length - head, head);
+        elements = grown;
+        head = 0;
+    }
+}
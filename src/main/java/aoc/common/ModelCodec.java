@@ -0,0 +1,34 @@
+package aoc.common;
+
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+/**
+ * Binary format of the parsed model of a {@link ParsedDay}, so a model can be stored once and loaded again instead of
+ * parsing the text input.<br>
+ * The model is written with {@link DataOutput} and read back from a (memory-mapped) {@link ByteBuffer}, both
+ * big-endian. The format needs no version: the stored models are keyed by the bytecode of the day, so changing a codec
+ * invalidates them anyway.
+ *
+ * @param <T> Type of the parsed model
+ */
+public interface ModelCodec<T> {
+    /**
+     * Writes a model.
+     *
+     * @param model Parsed model
+     * @param out   Output to write to
+     * @throws IOException If an I/O error occurs
+     */
+    void write(final T model, final DataOutput out) throws IOException;
+    
+    /**
+     * Reads a model written by {@link #write(Object, DataOutput)}.
+     *
+     * @param buffer Buffer positioned at the start of the model
+     * @return Parsed model
+     * @throws java.nio.BufferUnderflowException If the buffer ends early (the stored model is broken)
+     */
+    T read(final ByteBuffer buffer);
+}
@@ -0,0 +1,93 @@
+package aoc.common;
+
+import org.jetbrains.annotations.Nullable;
+
+import java.util.List;
+
+/**
+ * A day with an explicit parse stage. The input is parsed once into a model, which is then shared by both parts.<br>
+ * The parts must treat the model as read-only, so they can run independently and in parallel.
+ *
+ * @param <T> Type of the parsed model
+ */
+public interface ParsedDay<T> extends Day {
+    /**
+     * Parse the input
+     *
+     * @param input Input lines as list
+     * @return Parsed model (same for both parts)
+     */
+    T parse(final List<String> input);
+    
+    /**
+     * Solve part 1
+     *
+     * @param model Parsed model (read-only)
+     * @return Solution
+     */
+    Object solvePart1(final T model);
+    
+    /**
+     * Solve part 2
+     *
+     * @param model Parsed model (read-only)
+     * @return Solution
+     */
+    Object solvePart2(final T model);
+    
+    /**
+     * Gets the binary format of the parsed model, if the day has one.
+     *
+     * @return Codec of the model, or null to always parse
+     */
+    default @Nullable ModelCodec<T> codec() {
+        return null;
+    }
+    
+    /**
+     * Prepares an already parsed (or loaded) model for solving both parts.
+     *
+     * @param model Parsed model (read-only)
+     * @return Prepared model, its parts can be solved in any order or in parallel
+     */
+    default Prepared prepareModel(final T model) {
+        return new Prepared() {
+            @Override
+            public Object part1() {
+                return solvePart1(model);
+            }
+            
+            @Override
+            public Object part2() {
+                return solvePart2(model);
+            }
+        };
+    }
+    
+    @Override
+    default Object part1(final List<String> input) {
+        return solvePart1(parse(input));
+    }
+    
+    @Override
+    default Object part2(final List<String> input) {
+        return solvePart2(parse(input));
+    }
+    
+    @Override
+    @SuppressWarnings("try")
+    default Prepared prepare(final List<String> input) {
+        final T model;
+        
+        try (final var ignored = PhaseEvent.start(getClass(), "parse")) { //NON-NLS
+            model = parse(input);
+        }
+        
+        return prepareModel(model);
+    }
+    
+    @Override
+    default Prepared prepare(final Input input) {
+        return prepare(input.lines());
+    }
+}
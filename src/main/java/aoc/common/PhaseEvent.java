@@ -0,0 +1,61 @@
+package aoc.common;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight recorder event for a phase of a solver (e.g. parse, precompute or search), so a recording shows which phase
+ * of which day is hot. Used with try-with-resources:
+ * <pre>{@code
+ * try (final var ignored = PhaseEvent.start(Day16.class, "search")) {
+ *     ...
+ * }
+ * }</pre>
+ * If the event is not enabled in the recording, starting and closing it does nothing. As the resource is never used in
+ * the block, the method needs {@code @SuppressWarnings("try")} to compile cleanly with {@code -Xlint:all}.
+ */
+@Name("aoc.Phase")
+@Label("Phase")
+@Category("Advent of Code")
+@Description("A phase of a solver, e.g. parse, precompute or search")
+@StackTrace(false)
+public final class PhaseEvent extends Event implements AutoCloseable {
+    @Label("Day")
+    private String day;
+    
+    @Label("Phase")
+    private String phase;
+    
+    private PhaseEvent() {}
+    
+    /**
+     * Starts a phase.
+     *
+     * @param solver Class of the day
+     * @param phase  Name of the phase
+     * @return Started event, to be closed at the end of the phase
+     */
+    public static PhaseEvent start(final Class<?> solver, final String phase) {
+        final var event = new PhaseEvent();
+        
+        if (event.isEnabled()) {
+            event.day = solver.getSimpleName();
+            event.phase = phase;
+            event.begin();
+        }
+        
+        return event;
+    }
+    
+    /**
+     * Ends the phase and commits the event.
+     */
+    @Override
+    public void close() {
+        commit();
+    }
+}
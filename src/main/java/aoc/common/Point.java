@@ -40,6 +40,41 @@ public class Point {
      */
     public static final Point ORIGIN = new Point();
     
+    // Offsets in the same order as getNeighbours() and getAdjacent().
+    private static final int[] NEIGHBOUR_DX = {0, 1, 0, -1};
+    private static final int[] NEIGHBOUR_DY = {1, 0, -1, 0};
+    private static final int[] ADJACENT_DX  = {-1, 0, 1, -1, 1, -1, 0, 1};
+    private static final int[] ADJACENT_DY  = {1, 1, 1, 0, 0, -1, -1, -1};
+    
+    /**
+     * Consumer for raw coordinates, used to visit points without creating them.
+     */
+    @FunctionalInterface
+    public interface CoordinateConsumer {
+        /**
+         * Performs this operation on the given coordinates.
+         *
+         * @param x The x coordinate.
+         * @param y The y coordinate.
+         */
+        void accept(final int x, final int y);
+    }
+    
+    /**
+     * Predicate for raw coordinates, used to visit points without creating them.
+     */
+    @FunctionalInterface
+    public interface CoordinatePredicate {
+        /**
+         * Evaluates this predicate on the given coordinates.
+         *
+         * @param x The x coordinate.
+         * @param y The y coordinate.
+         * @return True if the coordinates match the predicate.
+         */
+        boolean test(final int x, final int y);
+    }
+    
     /**
      * Creates a new point at origin.
      */
@@ -76,6 +111,61 @@ public class Point {
         return y;
     }
     
+    /**
+     * Packs the coordinates into a single long (x in the upper, y in the lower 32 bits), so points can be stored in
+     * primitive collections like {@link LongHashSet} without allocating an object per point.
+     *
+     * @param x The x coordinate.
+     * @param y The y coordinate.
+     * @return The packed coordinates.
+     */
+    public static long pack(final int x, final int y) {
+        return ((long) x << 32) | (y & 0xFFFF_FFFFL);
+    }
+    
+    /**
+     * Gets the x coordinate of packed coordinates.
+     *
+     * @param packed The packed coordinates.
+     * @return The x coordinate.
+     * @see #pack(int, int)
+     */
+    public static int unpackX(final long packed) {
+        return (int) (packed >> 32);
+    }
+    
+    /**
+     * Gets the y coordinate of packed coordinates.
+     *
+     * @param packed The packed coordinates.
+     * @return The y coordinate.
+     * @see #pack(int, int)
+     */
+    public static int unpackY(final long packed) {
+        return (int) packed;
+    }
+    
+    /**
+     * Creates a point from packed coordinates.
+     *
+     * @param packed The packed coordinates.
+     * @return A new point.
+     * @see #pack(int, int)
+     */
+    public static Point unpack(final long packed) {
+        return new Point(unpackX(packed), unpackY(packed));
+    }
+    
+    /**
+     * Packs the coordinates of this point into a single long.
+     *
+     * @return The packed coordinates.
+     * @see #pack(int, int)
+     */
+    public final long pack() {
+        return pack(x, y);
+    }
+    
     /**
      * Adds the specified point to this point.
      *
@@ -154,6 +244,88 @@ public class Point {
         };
     }
     
+    /**
+     * Visits all directly neighboring coordinates of the given coordinates, without allocating anything.
+     *
+     * @param x      The x coordinate.
+     * @param y      The y coordinate.
+     * @param action The action to perform for each neighbour.
+     * @see #getNeighbours()
+     */
+    public static void forEachNeighbour(final int x, final int y, final CoordinateConsumer action) {
+        for (var i = 0; i < NEIGHBOUR_DX.length; i++) {
+            action.accept(x + NEIGHBOUR_DX[i], y + NEIGHBOUR_DY[i]);
+        }
+    }
+    
+    /**
+     * Visits all adjacent coordinates (including diagonals) of the given coordinates, without allocating anything.
+     *
+     * @param x      The x coordinate.
+     * @param y      The y coordinate.
+     * @param action The action to perform for each adjacent point.
+     * @see #getAdjacent()
+     */
+    public static void forEachAdjacent(final int x, final int y, final CoordinateConsumer action) {
+        for (var i = 0; i < ADJACENT_DX.length; i++) {
+            action.accept(x + ADJACENT_DX[i], y + ADJACENT_DY[i]);
+        }
+    }
+    
+    /**
+     * Checks if any directly neighboring coordinates match the predicate, stops at the first match.
+     *
+     * @param x         The x coordinate.
+     * @param y         The y coordinate.
+     * @param predicate The predicate to test.
+     * @return True if any neighbour matches.
+     */
+    public static boolean anyNeighbour(final int x, final int y, final CoordinatePredicate predicate) {
+        for (var i = 0; i < NEIGHBOUR_DX.length; i++) {
+            if (predicate.test(x + NEIGHBOUR_DX[i], y + NEIGHBOUR_DY[i])) {
+                return true;
+            }
+        }
+        return false;
+    }
+    
+    /**
+     * Checks if any adjacent coordinates (including diagonals) match the predicate, stops at the first match.
+     *
+     * @param x         The x coordinate.
+     * @param y         The y coordinate.
+     * @param predicate The predicate to test.
+     * @return True if any adjacent point matches.
+     */
+    public static boolean anyAdjacent(final int x, final int y, final CoordinatePredicate predicate) {
+        for (var i = 0; i < ADJACENT_DX.length; i++) {
+            if (predicate.test(x + ADJACENT_DX[i], y + ADJACENT_DY[i])) {
+                return true;
+            }
+        }
+        return false;
+    }
+    
+    /**
+     * Visits all directly neighboring coordinates of this point.
+     *
+     * @param action The action to perform for each neighbour.
+     * @see #forEachNeighbour(int, int, CoordinateConsumer)
+     */
+    public final void forEachNeighbour(final CoordinateConsumer action) {
+        forEachNeighbour(x, y, action);
+    }
+    
+    /**
+     * Visits all adjacent coordinates (including diagonals) of this point.
+     *
+     * @param action The action to perform for each adjacent point.
+     * @see #forEachAdjacent(int, int, CoordinateConsumer)
+     */
+    public final void forEachAdjacent(final CoordinateConsumer action) {
+        forEachAdjacent(x, y, action);
+    }
+    
     @Override
     public final boolean equals(final Object obj) {
         if (this == obj) {
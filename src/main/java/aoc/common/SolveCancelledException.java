@@ -0,0 +1,18 @@
+package aoc.common;
+
+/**
+ * Thrown by {@link SolveContext#checkpoint()} when a solve was cancelled or ran past its deadline.<br>
+ * It unwinds the day like any other failure, so the thread (and the JVM) carries on with the next task.
+ */
+public final class SolveCancelledException extends IllegalStateException {
+    private static final long serialVersionUID = 1L;
+    
+    /**
+     * Creates the exception.
+     *
+     * @param message Why the solve was stopped
+     */
+    public SolveCancelledException(final String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,153 @@
+package aoc.common;
+
+import org.jetbrains.annotations.Nullable;
+
+import java.time.Duration;
+import java.util.function.Supplier;
+
+/**
+ * Deadline, cancellation and progress reporting for a single solve.<br>
+ * The context is bound to the solving thread (see {@link Day.Prepared#part1(SolveContext)}), so the days do not need
+ * another parameter: a long-running day fetches {@link #current()} once and calls {@link #checkpoint()} or
+ * {@link #progress(String, long)} in its outer loops. Both are cheap (a volatile read and {@link System#nanoTime()}),
+ * but should still not be called per state in the hottest loops; count there and report every few thousand states.
+ * Without a bound context, {@link #current()} never stops and reports nothing.
+ */
+public final class SolveContext {
+    private static final long REPORT_INTERVAL = Duration.ofMillis(500L).toNanos();
+    
+    private static final SolveContext              UNBOUNDED = new SolveContext(null, null);
+    private static final ThreadLocal<SolveContext> CURRENT   = ThreadLocal.withInitial(() -> UNBOUNDED);
+    
+    private final @Nullable ProgressListener listener;
+    private final           long             start;
+    private final           long             timeout;
+    private volatile        boolean          cancelled;
+    private                 long             lastReport;
+    
+    /**
+     * Receives the progress of a solve.
+     */
+    @FunctionalInterface
+    public interface ProgressListener {
+        /**
+         * Called at most every half second with the latest value of a metric.
+         *
+         * @param metric Name of the metric, e.g. {@code states} or {@code rounds}
+         * @param value  Current value
+         */
+        void onProgress(String metric, long value);
+    }
+    
+    /**
+     * Creates a context, the deadline starts now.
+     *
+     * @param timeout  Time the solve may take, or null for no deadline
+     * @param listener Receiver of the progress, or null to ignore it
+     */
+    public SolveContext(final @Nullable Duration timeout, final @Nullable ProgressListener listener) {
+        this.listener = listener;
+        start = System.nanoTime();
+        this.timeout = timeout == null ? Long.MAX_VALUE : timeout.toNanos();
+        lastReport = start;
+    }
+    
+    /**
+     * Gets the context bound to the current thread.
+     *
+     * @return Bound context, or one without deadline and reporting
+     */
+    public static SolveContext current() {
+        return CURRENT.get();
+    }
+    
+    /**
+     * Runs a part with this context bound to the current thread.
+     *
+     * @param part The part to solve
+     * @param <T>  Type of the solution
+     * @return Solution
+     * @throws SolveCancelledException If the part was stopped
+     */
+    public <T> T call(final Supplier<T> part) {
+        final var previous = CURRENT.get();
+        
+        CURRENT.set(this);
+        try {
+            return part.get();
+        } finally {
+            CURRENT.set(previous);
+        }
+    }
+    
+    /**
+     * Cancels the solve, it stops at its next checkpoint. Can be called from any thread.
+     */
+    public void cancel() {
+        cancelled = true;
+    }
+    
+    /**
+     * Checks if the solve was cancelled.
+     *
+     * @return True if cancelled
+     */
+    public boolean isCancelled() {
+        return cancelled;
+    }
+    
+    /**
+     * Stops the solve if it was cancelled or the deadline has passed.
+     *
+     * @throws SolveCancelledException If the solve must stop
+     */
+    public void checkpoint() {
+        if (cancelled) {
+            throw new SolveCancelledException("Cancelled");
+        }
+        if (timeout != Long.MAX_VALUE && System.nanoTime() - start > timeout) {
+            throw new SolveCancelledException("Deadline of %d ms exceeded".formatted(timeout / 1_000_000L));
+        }
+    }
+    
+    /**
+     * Reports the progress (throttled) and then does a {@link #checkpoint()}.
+     *
+     * @param metric Name of the metric, e.g. {@code states} or {@code rounds}
+     * @param value  Current value
+     * @throws SolveCancelledException If the solve must stop
+     */
+    public void progress(final String metric, final long value) {
+        if (listener != null) {
+            final var now = System.nanoTime();
+            
+            if (now - lastReport >= REPORT_INTERVAL) {
+                lastReport = now;
+                listener.onProgress(metric, value);
+            }
+        }
+        checkpoint();
+    }
+    
+    /**
+     * Reports two metrics of the same checkpoint (throttled together) and then does a {@link #checkpoint()}.
+     *
+     * @param metric      Name of the first metric, e.g. {@code states}
+     * @param value       Current value of the first metric
+     * @param otherMetric Name of the second metric, e.g. {@code frontier}
+     * @param otherValue  Current value of the second metric
+     * @throws SolveCancelledException If the solve must stop
+     */
+    public void progress(final String metric, final long value, final String otherMetric, final long otherValue) {
+        if (listener != null) {
+            final var now = System.nanoTime();
+            
+            if (now - lastReport >= REPORT_INTERVAL) {
+                lastReport = now;
+                listener.onProgress(metric, value);
+                listener.onProgress(otherMetric, otherValue);
+            }
+        }
+        checkpoint();
+    }
+}
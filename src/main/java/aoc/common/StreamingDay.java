@@ -0,0 +1,81 @@
+package aoc.common;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Interface for a day which solves both parts in a single forward pass over the lines.<br>
+ * Such a day never needs all lines at once, so the input can be streamed from the file in constant memory, no matter
+ * how large it is. The list and mapped input variants of {@link Day} just stream their lines.
+ */
+public interface StreamingDay extends Day {
+    /**
+     * Solve part 1 in a single pass
+     *
+     * @param lines Input lines, each can only be read once
+     * @return Solution
+     */
+    Object part1(final Iterator<? extends CharSequence> lines);
+    
+    /**
+     * Solve part 2 in a single pass
+     *
+     * @param lines Input lines, each can only be read once
+     * @return Solution
+     */
+    Object part2(final Iterator<? extends CharSequence> lines);
+    
+    @Override
+    default Object part1(final List<String> input) {
+        return part1(input.iterator());
+    }
+    
+    @Override
+    default Object part2(final List<String> input) {
+        return part2(input.iterator());
+    }
+    
+    @Override
+    default Object part1(final Input input) {
+        return part1(input.iterator());
+    }
+    
+    @Override
+    default Object part2(final Input input) {
+        return part2(input.iterator());
+    }
+    
+    /**
+     * Prepares an input file for solving both parts. Nothing is read here, each part streams the file again.
+     *
+     * @param path Path to the input file (same for both parts)
+     * @return Prepared input, its parts can be solved in any order or in parallel
+     */
+    default Prepared prepare(final Path path) {
+        return new Prepared() {
+            @Override
+            public Object part1() {
+                return stream(path, StreamingDay.this::part1);
+            }
+            
+            @Override
+            public Object part2() {
+                return stream(path, StreamingDay.this::part2);
+            }
+        };
+    }
+    
+    private static Object stream(final Path path, final Function<Iterator<String>, Object> part) {
+        try (final var lines = Files.lines(path, StandardCharsets.US_ASCII)) {
+            return part.apply(lines.iterator());
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -1,50 +1,70 @@
 package aoc.days;
 
-import aoc.common.Day;
+import aoc.common.StreamingDay;
 import org.jetbrains.annotations.NonNls;
 
-import java.util.ArrayList;
-import java.util.Comparator;
-import java.util.List;
+import java.util.Arrays;
+import java.util.Iterator;
 
 /**
  * <b>Day 1: Calorie Counting</b><br>
- * Straight forward, just sort the list and then calculate the score.
+ * Straight forward, just sort the list and then calculate the score.<br>
+ * UPDATE: Now streams the lines and only keeps the top sums, so there is no list to sort anymore.
  *
  * @see <a href="https://adventofcode.com/2022/day/1">Day 1: Calorie Counting</a>
  */
 @NonNls
-public final class Day01 implements Day {
+public final class Day01 implements StreamingDay {
     @Override
-    public Object part1(final List<String> input) {
-        return getSums(input).stream().max(Comparator.comparing(Integer::intValue)).orElseThrow();
+    public Object part1(final Iterator<? extends CharSequence> lines) {
+        return getTopSum(lines, 1);
     }
     
     @Override
-    public Object part2(final List<String> input) {
-        return getSums(input).stream()
-                .sorted(Comparator.comparing(Integer::intValue).reversed())
-                .limit(3L)
-                .reduce(0, Integer::sum);
+    public Object part2(final Iterator<? extends CharSequence> lines) {
+        return getTopSum(lines, 3);
     }
     
-    private static List<Integer> getSums(final Iterable<String> input) {
-        final var sums = new ArrayList<Integer>();
+    // Keeps only the n largest sums (descending), so the input can be as long as it wants.
+    private static int getTopSum(final Iterator<? extends CharSequence> lines, final int n) {
+        final var top = new int[n];
         
         var current = 0;
         
-        for (final var line : input) {
-            if (line.isBlank()) {
-                sums.add(current);
+        while (lines.hasNext()) {
+            final var line = lines.next();
+            
+            if (isBlank(line)) {
+                insertTop(top, current);
                 current = 0;
                 continue;
             }
             
-            current += Integer.parseInt(line);
+            current += Integer.parseInt(line, 0, line.length(), 10);
         }
         
-        sums.add(current);
+        insertTop(top, current);
         
-        return sums;
+        return Arrays.stream(top).sum();
+    }
+    
+    // Like String.isBlank, without turning the line view into a String.
+    private static boolean isBlank(final CharSequence line) {
+        for (var i = 0; i < line.length(); i++) {
+            if (!Character.isWhitespace(line.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    private static void insertTop(final int[] top, final int sum) {
+        for (var i = 0; i < top.length; i++) {
+            if (sum > top[i]) {
+                System.arraycopy(top, i, top, i + 1, top.length - i - 1);
+                top[i] = sum;
+                return;
+            }
+        }
     }
 }
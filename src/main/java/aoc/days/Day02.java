@@ -1,9 +1,10 @@
 package aoc.days;
 
-import aoc.common.Day;
+import aoc.common.StreamingDay;
 import org.jetbrains.annotations.NonNls;
 
-import java.util.List;
+import java.util.Iterator;
+import java.util.function.ToIntBiFunction;
 
 /**
  * <b>Day 2: Rock Paper Scissors</b><br>
@@ -13,7 +14,7 @@ import java.util.List;
  * @see <a href="https://adventofcode.com/2022/day/2">Day 2: Rock Paper Scissors</a>
  */
 @NonNls
-public final class Day02 implements Day {
+public final class Day02 implements StreamingDay {
     private static final String ROCK     = "A";
     private static final String PAPER    = "B";
     private static final String SCISSORS = "C";
@@ -57,12 +58,24 @@ public final class Day02 implements Day {
     }
     
     @Override
-    public Object part1(final List<String> input) {
-        return input.stream().map(line -> line.split(" ")).mapToInt(parts -> getOutcomePart1(parts[0], parts[1])).sum();
+    public Object part1(final Iterator<? extends CharSequence> lines) {
+        return getScore(lines, Day02::getOutcomePart1);
     }
     
     @Override
-    public Object part2(final List<String> input) {
-        return input.stream().map(line -> line.split(" ")).mapToInt(parts -> getOutcomePart2(parts[0], parts[1])).sum();
+    public Object part2(final Iterator<? extends CharSequence> lines) {
+        return getScore(lines, Day02::getOutcomePart2);
+    }
+    
+    private static int getScore(final Iterator<? extends CharSequence> lines,
+                                final ToIntBiFunction<String, String> outcome) {
+        var score = 0;
+        
+        while (lines.hasNext()) {
+            final var parts = lines.next().toString().split(" ");
+            score += outcome.applyAsInt(parts[0], parts[1]);
+        }
+        
+        return score;
     }
 }
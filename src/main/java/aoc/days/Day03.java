@@ -1,9 +1,9 @@
 package aoc.days;
 
-import aoc.common.*;
+import aoc.common.StreamingDay;
 import org.jetbrains.annotations.NonNls;
 
-import java.util.List;
+import java.util.Iterator;
 
 /**
  * <b>Day 03: Rucksack Reorganization</b><br>
@@ -11,35 +11,47 @@ import java.util.List;
  * I also included the list-partition method in a common class, because I think it could be useful in the future.<br>
  * Finally, there are other methods how to find the intersection of two or more lists, but considering that the overlap
  * was guaranteed to be only one element, going by indexOf was simplest (i.e. using
- * {@link java.util.Collection#retainAll(java.util.Collection)}).
+ * {@link java.util.Collection#retainAll(java.util.Collection)}).<br>
+ * UPDATE: The lines are now streamed, so the groups of three are just taken from the stream one after another instead
+ * of partitioning the list.
  *
  * @see <a href="https://adventofcode.com/2022/day/3">Day 03: Rucksack Reorganization</a>
  */
 @SuppressWarnings("HardCodedStringLiteral")
 @NonNls
-public final class Day03 implements Day {
+public final class Day03 implements StreamingDay {
     @Override
-    public Object part1(final List<String> input) {
-        return input.stream().map(line -> {
+    public Object part1(final Iterator<? extends CharSequence> lines) {
+        var sum = 0;
+        
+        while (lines.hasNext()) {
+            final var line  = lines.next().toString();
             final var left  = line.substring(0, line.length() / 2);
             final var right = line.substring(line.length() / 2);
             
-            return left.chars().filter(i -> right.indexOf(i) >= 0).findFirst().orElseThrow();
-        }).map(Day03::toRucksackValue).reduce(0, Integer::sum);
+            sum += toRucksackValue(left.chars().filter(i -> right.indexOf(i) >= 0).findFirst().orElseThrow());
+        }
+        
+        return sum;
     }
     
     @Override
-    public Object part2(final List<String> input) {
-        final var partitions = CollectionUtil.partition(input, 3);
+    public Object part2(final Iterator<? extends CharSequence> lines) {
+        var sum = 0;
+        
+        // Partitioned into groups of three on the fly.
+        while (lines.hasNext()) {
+            final var first  = lines.next().toString();
+            final var second = lines.next().toString();
+            final var third  = lines.next().toString();
+            
+            sum += toRucksackValue(first.chars()
+                                        .filter(i -> second.indexOf(i) >= 0 && third.indexOf(i) >= 0)
+                                        .findFirst()
+                                        .orElseThrow());
+        }
         
-        return partitions.stream()
-                         .map(lines -> lines.get(0)
-                                            .chars()
-                                            .filter(i -> lines.get(1).indexOf(i) >= 0 && lines.get(2).indexOf(i) >= 0)
-                                            .findFirst()
-                                            .orElseThrow())
-                         .map(Day03::toRucksackValue)
-                         .reduce(0, Integer::sum);
+        return sum;
     }
     
     private static int toRucksackValue(final int i) {
@@ -1,10 +1,11 @@
 package aoc.days;
 
-import aoc.common.Day;
+import aoc.common.StreamingDay;
 import org.jetbrains.annotations.NonNls;
 
 import java.util.Arrays;
-import java.util.List;
+import java.util.Iterator;
+import java.util.function.BiPredicate;
 
 /**
  * <b>Day 04: Camp Cleanup</b><br>
@@ -16,27 +17,31 @@ import java.util.List;
  * @see <a href="https://adventofcode.com/2022/day/4">Day 04: Camp Cleanup</a>
  */
 @NonNls
-public final class Day04 implements Day {
+public final class Day04 implements StreamingDay {
     @Override
-    public Object part1(final List<String> input) {
-        return input.stream().map(line -> {
-            final var parts      = line.split(",");
-            final var rangeLeft  = Arrays.stream(parts[0].split("-")).mapToInt(Integer::parseInt).toArray();
-            final var rangeRight = Arrays.stream(parts[1].split("-")).mapToInt(Integer::parseInt).toArray();
-            
-            return isContained(rangeLeft, rangeRight) ? 1 : 0;
-        }).reduce(0, Integer::sum);
+    public Object part1(final Iterator<? extends CharSequence> lines) {
+        return count(lines, Day04::isContained);
     }
     
     @Override
-    public Object part2(final List<String> input) {
-        return input.stream().map(line -> {
-            final var parts      = line.split(",");
+    public Object part2(final Iterator<? extends CharSequence> lines) {
+        return count(lines, Day04::isOverlapping);
+    }
+    
+    private static int count(final Iterator<? extends CharSequence> lines, final BiPredicate<int[], int[]> predicate) {
+        var count = 0;
+        
+        while (lines.hasNext()) {
+            final var parts      = lines.next().toString().split(",");
             final var rangeLeft  = Arrays.stream(parts[0].split("-")).mapToInt(Integer::parseInt).toArray();
             final var rangeRight = Arrays.stream(parts[1].split("-")).mapToInt(Integer::parseInt).toArray();
             
-            return isOverlapping(rangeLeft, rangeRight) ? 1 : 0;
-        }).reduce(0, Integer::sum);
+            if (predicate.test(rangeLeft, rangeRight)) {
+                count++;
+            }
+        }
+        
+        return count;
     }
     
     private static boolean isContained(final int[] rangeLeft, final int[] rangeRight) {
@@ -1,5 +1,6 @@
 package aoc.days;
 
+import aoc.common.CharScanner;
 import aoc.common.Day;
 import org.jetbrains.annotations.NonNls;
 
@@ -28,9 +29,9 @@ public final class Day05 implements Day {
         final var moves        = buildMoves(input, (long) instructions.size() + 2);
         
         for (final var move : moves) {
-            var       count          = Integer.parseInt(move[1]);
-            final var fromQueueIndex = Integer.parseInt(move[3]) - 1;
-            final var toQueueIndex   = Integer.parseInt(move[5]) - 1;
+            var       count          = move[0];
+            final var fromQueueIndex = move[1] - 1;
+            final var toQueueIndex   = move[2] - 1;
             
             while (count-- > 0) {
                 queues.get(toQueueIndex).push(queues.get(fromQueueIndex).pop());
@@ -47,9 +48,9 @@ public final class Day05 implements Day {
         final var moves        = buildMoves(input, (long) instructions.size() + 2);
         
         for (final var move : moves) {
-            var       count          = Integer.parseInt(move[1]);
-            final var fromQueueIndex = Integer.parseInt(move[3]) - 1;
-            final var toQueueIndex   = Integer.parseInt(move[5]) - 1;
+            var       count          = move[0];
+            final var fromQueueIndex = move[1] - 1;
+            final var toQueueIndex   = move[2] - 1;
             
             final var tmpList = new LinkedList<Character>();
             
@@ -94,8 +95,8 @@ public final class Day05 implements Day {
         return queues;
     }
     
-    private static List<String[]> buildMoves(final Collection<String> input, final long skip) {
-        return input.stream().skip(skip).map(line -> line.split(" ")).toList();
+    private static List<int[]> buildMoves(final Collection<String> input, final long skip) {
+        return input.stream().skip(skip).map(CharScanner::ints).toList();
     }
     
     private static String buildFinalQueueString(final Collection<? extends LinkedList<Character>> queues) {
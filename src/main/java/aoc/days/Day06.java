@@ -1,6 +1,7 @@
 package aoc.days;
 
 import aoc.common.Day;
+import aoc.common.Input;
 import org.jetbrains.annotations.NonNls;
 
 import java.util.LinkedList;
@@ -17,20 +18,32 @@ import java.util.List;
 public final class Day06 implements Day {
     @Override
     public Object part1(final List<String> input) {
-        return findSolution(input.get(0).toCharArray(), 4);
+        return findSolution(input.get(0), 4);
     }
     
     @Override
     public Object part2(final List<String> input) {
-        return findSolution(input.get(0).toCharArray(), 14);
+        return findSolution(input.get(0), 14);
     }
     
-    private static int findSolution(final char[] signal, final int markerSize) {
+    @Override
+    public Object part1(final Input input) {
+        return findSolution(input.line(0), 4);
+    }
+    
+    @Override
+    public Object part2(final Input input) {
+        return findSolution(input.line(0), 14);
+    }
+    
+    private static int findSolution(final CharSequence signal, final int markerSize) {
         final var signalBuffer = new LinkedList<Character>();
         
         var count = 0;
         
-        for (final var c : signal) {
+        for (var i = 0; i < signal.length(); i++) {
+            final var c = signal.charAt(i);
+            
             signalBuffer.push(c);
             count++;
             
@@ -1,9 +1,9 @@
 package aoc.days;
 
-import aoc.common.Day;
+import aoc.common.ByteGrid;
+import aoc.common.ParsedDay;
 import org.jetbrains.annotations.NonNls;
 
-import java.util.Arrays;
 import java.util.List;
 
 /**
@@ -20,129 +20,90 @@ import java.util.List;
  * For legibility I removed a small optimization which breaks the scoring algorithm on the first 0, but this can only
  * happen at the edges and the runtime barely changes (inside you see at least one tree in any direction, even if the
  * tree in front of you is large...). Also to finalize the generated maps in both parts, we use the nice flatMapToInt
- * stream function to reduce the 2D array to a single line of integers.
+ * stream function to reduce the 2D array to a single line of integers.<br>
+ * UPDATE: The trees now live in a flat {@link ByteGrid}. Looking along a row or column is just walking an index with
+ * a fixed step, so the four duplicated loops of each part collapsed into one helper each, and the visible trees are
+ * counted directly on the grid.
  *
  * @see <a href="https://adventofcode.com/2022/day/8">Day 08: Treetop Tree House</a>
  */
 @NonNls
-public final class Day08 implements Day {
+public final class Day08 implements ParsedDay<ByteGrid> {
+    private static final byte VISIBLE = 1;
+    
+    @Override
+    public ByteGrid parse(final List<String> input) {
+        return ByteGrid.parse(input, 0, (byte) 0, c -> c - '0');
+    }
+    
     @Override
-    public Object part1(final List<String> input) {
-        final var treeMap        = buildTreeMap(input);
-        final var xMax           = treeMap.length;
-        final var yMax           = treeMap[0].length;
-        final var visibleTreeMap = new int[xMax][yMax];
+    public Object solvePart1(final ByteGrid treeMap) {
+        final var xMax           = treeMap.width();
+        final var yMax           = treeMap.height();
+        final var visibleTreeMap = new ByteGrid(xMax, yMax, 0, (byte) 0);
         
         // X asc and desc
-        //noinspection DuplicatedCode
         for (var y = 0; y < yMax; y++) {
-            var currentMax = -1;
-            for (var x = 0; x < xMax; x++) {
-                if (treeMap[x][y] > currentMax) {
-                    visibleTreeMap[x][y] = 1;
-                    currentMax = treeMap[x][y];
-                }
-            }
-            currentMax = -1;
-            for (var x = xMax - 1; x >= 0; x--) {
-                if (treeMap[x][y] > currentMax) {
-                    visibleTreeMap[x][y] = 1;
-                    currentMax = treeMap[x][y];
-                }
-            }
+            markVisible(treeMap, visibleTreeMap, treeMap.index(0, y), treeMap.offset(1, 0), xMax);
+            markVisible(treeMap, visibleTreeMap, treeMap.index(xMax - 1, y), treeMap.offset(-1, 0), xMax);
         }
         
         // Y asc and desc
-        //noinspection DuplicatedCode
         for (var x = 0; x < xMax; x++) {
-            var currentMax = -1;
-            for (var y = 0; y < yMax; y++) {
-                if (treeMap[x][y] > currentMax) {
-                    visibleTreeMap[x][y] = 1;
-                    currentMax = treeMap[x][y];
-                }
-            }
-            currentMax = -1;
-            for (var y = yMax - 1; y >= 0; y--) {
-                if (treeMap[x][y] > currentMax) {
-                    visibleTreeMap[x][y] = 1;
-                    currentMax = treeMap[x][y];
-                }
-            }
+            markVisible(treeMap, visibleTreeMap, treeMap.index(x, 0), treeMap.offset(0, 1), yMax);
+            markVisible(treeMap, visibleTreeMap, treeMap.index(x, yMax - 1), treeMap.offset(0, -1), yMax);
         }
         
-        return Arrays.stream(visibleTreeMap).flatMapToInt(Arrays::stream).sum();
+        return visibleTreeMap.count(VISIBLE);
     }
     
     @Override
-    public Object part2(final List<String> input) {
-        final var treeMap  = buildTreeMap(input);
-        final var xMax     = treeMap.length;
-        final var yMax     = treeMap[0].length;
-        final var scoreMap = new int[xMax][yMax];
+    public Object solvePart2(final ByteGrid treeMap) {
+        final var xMax     = treeMap.width();
+        final var yMax     = treeMap.height();
+        var       maxScore = -1;
         
         for (var y = 0; y < yMax; y++) {
             for (var x = 0; x < xMax; x++) {
-                scoreMap[x][y] = getScore(x, y, treeMap);
+                maxScore = Math.max(maxScore, getScore(x, y, treeMap));
             }
         }
         
-        return Arrays.stream(scoreMap).flatMapToInt(Arrays::stream).max().orElse(-1);
+        return maxScore;
     }
     
-    private static int getScore(final int x, final int y, final int[][] treeMap) {
-        final var xMax = treeMap.length;
-        final var yMax = treeMap[0].length;
+    private static void markVisible(final ByteGrid treeMap, final ByteGrid visibleTreeMap, final int start,
+                                    final int step, final int length) {
+        var currentMax = -1;
         
-        //noinspection DuplicatedCode
-        var xAsc = 0;
-        for (var iX = x + 1; iX < xMax; iX++) {
-            xAsc++;
-            if (treeMap[iX][y] >= treeMap[x][y]) {
-                break;
-            }
-        }
-        
-        var xDesc = 0;
-        for (var iX = x - 1; iX >= 0; iX--) {
-            xDesc++;
-            if (treeMap[iX][y] >= treeMap[x][y]) {
-                break;
-            }
-        }
-        
-        //noinspection DuplicatedCode
-        var yAsc = 0;
-        for (var iY = y + 1; iY < yMax; iY++) {
-            yAsc++;
-            if (treeMap[x][iY] >= treeMap[x][y]) {
-                break;
+        for (int i = 0, index = start; i < length; i++, index += step) {
+            if (treeMap.get(index) > currentMax) {
+                visibleTreeMap.set(index, VISIBLE);
+                currentMax = treeMap.get(index);
             }
         }
+    }
+    
+    private static int getScore(final int x, final int y, final ByteGrid treeMap) {
+        final var index = treeMap.index(x, y);
         
-        var yDesc = 0;
-        for (var iY = y - 1; iY >= 0; iY--) {
-            yDesc++;
-            if (treeMap[x][iY] >= treeMap[x][y]) {
-                break;
-            }
-        }
+        final var xAsc  = getViewingDistance(treeMap, index, treeMap.offset(1, 0), treeMap.width() - 1 - x);
+        final var xDesc = getViewingDistance(treeMap, index, treeMap.offset(-1, 0), x);
+        final var yAsc  = getViewingDistance(treeMap, index, treeMap.offset(0, 1), treeMap.height() - 1 - y);
+        final var yDesc = getViewingDistance(treeMap, index, treeMap.offset(0, -1), y);
         
         return xAsc * xDesc * yAsc * yDesc;
     }
     
-    private static int[][] buildTreeMap(final List<String> input) {
-        final var xMax    = input.get(0).length();
-        final var yMax    = input.size();
-        final var treeMap = new int[xMax][yMax];
+    private static int getViewingDistance(final ByteGrid treeMap, final int index, final int step, final int steps) {
+        final var height = treeMap.get(index);
         
-        for (var y = 0; y < yMax; y++) {
-            final var line = input.get(y);
-            for (var x = 0; x < xMax; x++) {
-                treeMap[x][y] = line.charAt(x) - '0';
+        for (var i = 1; i <= steps; i++) {
+            if (treeMap.get(index + i * step) >= height) {
+                return i;
             }
         }
         
-        return treeMap;
+        return steps;
     }
 }
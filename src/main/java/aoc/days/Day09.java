@@ -1,13 +1,11 @@
 package aoc.days;
 
 import aoc.common.Day;
+import aoc.common.LongHashSet;
 import aoc.common.Point;
 import org.jetbrains.annotations.NonNls;
 
-import java.util.Arrays;
-import java.util.HashSet;
 import java.util.List;
-import java.util.Set;
 
 /**
  * <b>Day 09: Rope Bridge</b><br>
@@ -19,7 +17,10 @@ import java.util.Set;
  * The rope is moved by first moving the head (first element of the rope) by the given direction, and on each step
  * aligning the rest of the body one by one. The align method separates the four possible conditions (no movement
  * needed, movement horizontally, movement vertically, movement diagonally).<br>
- * Note that the moveRope method not only returns the newly visited points, but also modifies the rope position.
+ * Note that the moveRope method not only records the newly visited points, but also modifies the rope position.<br>
+ * UPDATE: The rope is now kept as two int arrays and the visited points are packed into longs stored in a
+ * {@link LongHashSet}, so no Point objects (and no HashSet nodes) are allocated per step anymore. Aligning also got
+ * simpler: if a knot is not adjacent anymore, it moves one step towards its predecessor on each axis (signum).
  *
  * @see <a href="https://adventofcode.com/2022/day/9">Day 09: Rope Bridge</a>
  */
@@ -36,16 +37,18 @@ public final class Day09 implements Day {
     }
     
     private static int solveForRopeSize(final int ropeSize, final Iterable<String> input) {
-        final var tailVisited = new HashSet<Point>();
-        final var rope        = new Point[ropeSize];
-        Arrays.fill(rope, new Point());
+        final var tailVisited = new LongHashSet();
+        final var ropeX       = new int[ropeSize];
+        final var ropeY       = new int[ropeSize];
+        
+        tailVisited.add(Point.pack(0, 0));
         
         for (final var line : input) {
             final var   parts     = line.split(" ");
             final Point direction = getDirection(parts);
             final var   distance  = Integer.parseInt(parts[1]);
             
-            tailVisited.addAll(moveRope(rope, direction, distance));
+            moveRope(ropeX, ropeY, direction, distance, tailVisited);
         }
         
         return tailVisited.size();
@@ -61,37 +64,36 @@ public final class Day09 implements Day {
         };
     }
     
-    private static Set<Point> moveRope(final Point[] rope, final Point direction, final int distance) {
-        final var tailVisited = new HashSet<Point>();
+    private static void moveRope(final int[] ropeX, final int[] ropeY, final Point direction, final int distance,
+                                 final LongHashSet tailVisited) {
+        final var tail = ropeX.length - 1;
         
         for (var i = 0; i < distance; i++) {
-            rope[0] = rope[0].add(direction);
-            for (var part = 1; part < rope.length; part++) {
-                rope[part] = align(rope[part], rope[part - 1]);
+            ropeX[0] += direction.getX();
+            ropeY[0] += direction.getY();
+            for (var part = 1; part < ropeX.length; part++) {
+                if (!align(ropeX, ropeY, part)) {
+                    // If this knot did not move, the following knots will not move either.
+                    break;
+                }
             }
-            tailVisited.add(rope[rope.length - 1]);
+            tailVisited.add(Point.pack(ropeX[tail], ropeY[tail]));
         }
-        
-        return tailVisited;
     }
     
-    @SuppressWarnings("FeatureEnvy")
-    private static Point align(final Point tail, final Point head) {
+    private static boolean align(final int[] ropeX, final int[] ropeY, final int part) {
+        final var dx = ropeX[part - 1] - ropeX[part];
+        final var dy = ropeY[part - 1] - ropeY[part];
+        
         // If we are close, we do not move the tail.
-        if (tail.equals(head) || tail.getAdjacent().contains(head)) {
-            return tail;
-        }
-        // Same x, move vertically.
-        if (tail.getX() == head.getX()) {
-            return tail.add(tail.getY() < head.getY() ? Point.UP : Point.DOWN);
-        }
-        // Same y, move horizontally.
-        if (tail.getY() == head.getY()) {
-            return tail.add(tail.getX() < head.getX() ? Point.RIGHT : Point.LEFT);
+        if (Math.abs(dx) <= 1 && Math.abs(dy) <= 1) {
+            return false;
         }
         
-        // Different x and y, move diagonally.
-        return tail.add(tail.getY() < head.getY() ? Point.UP : Point.DOWN)
-                   .add(tail.getX() < head.getX() ? Point.RIGHT : Point.LEFT);
+        // Otherwise move one step towards the head on each axis where they differ (straight or diagonally).
+        ropeX[part] += Integer.signum(dx);
+        ropeY[part] += Integer.signum(dy);
+        
+        return true;
     }
 }
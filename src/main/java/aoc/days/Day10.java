@@ -1,9 +1,9 @@
 package aoc.days;
 
-import aoc.common.Day;
+import aoc.common.StreamingDay;
 import org.jetbrains.annotations.NonNls;
 
-import java.util.List;
+import java.util.Iterator;
 import java.util.concurrent.atomic.AtomicInteger;
 
 /**
@@ -21,15 +21,15 @@ import java.util.concurrent.atomic.AtomicInteger;
  * @see <a href="https://adventofcode.com/2022/day/10">Day 10: Cathode-Ray Tube</a>
  */
 @NonNls
-public final class Day10 implements Day {
+public final class Day10 implements StreamingDay {
     
     @Override
-    public Object part1(final List<String> input) {
+    public Object part1(final Iterator<? extends CharSequence> lines) {
         final var signalStrength = new AtomicInteger();
         final var clockOffset    = 20;
         final var clockModulus   = 40;
         
-        process(input, (clock, x)  -> {
+        process(lines, (clock, x)  -> {
             if ((clock + clockOffset) % clockModulus == 0) {
                 signalStrength.addAndGet(x * clock);
             }
@@ -39,11 +39,11 @@ public final class Day10 implements Day {
     }
     
     @Override
-    public Object part2(final List<String> input) {
+    public Object part2(final Iterator<? extends CharSequence> lines) {
         final var sb       = new StringBuilder(6 * 41 + 1);
         final var crtWidth = 40;
         
-        process(input, (clock, x) -> {
+        process(lines, (clock, x) -> {
             final var crtPosition    = (clock - 1) % crtWidth;
             final var spritePosition = x % crtWidth;
             
@@ -64,12 +64,13 @@ public final class Day10 implements Day {
         void tick(final int clock, final int x);
     }
     
-    private static void process(final Iterable<String> input, final ClockCycleFunction clockCycleFunction) {
+    private static void process(final Iterator<? extends CharSequence> lines,
+                                final ClockCycleFunction clockCycleFunction) {
         var clock = 0;
         var x = 1;
         
-        for (final var line : input) {
-            final var split = line.split(" ");
+        while (lines.hasNext()) {
+            final var split = lines.next().toString().split(" ");
             
             clockCycleFunction.tick(++clock, x);
             
@@ -16,6 +16,7 @@ import java.util.stream.Collectors;
  * The second part needed some thinking and a realisation, that you can reduce those values in size by taking the LCM
  * of all values. A hint to this method is given as all the divisors are prime numbers, so the LCM is also the simple
  * product of all numbers.<br>
+ * UPDATE: The monkeys are now split on the empty lines between them instead of in fixed blocks of seven lines.
  *
  * @see <a href="https://adventofcode.com/2022/day/11">Day 11: Monkey in the Middle</a>
  */
@@ -55,7 +56,7 @@ public final class Day11 implements Day {
     private static ArrayList<Monkey> parseMonkeys(final List<String> input) {
         final var monkeys = new ArrayList<Monkey>();
         
-        for (final var lines : CollectionUtil.partition(input, 7)) {
+        CollectionUtil.records(input).forEach(lines -> {
             final var items = Arrays.stream(COMMA_AND_SPACE.split(lines.get(1)
                                                                        .trim()
                                                                        .replace("Starting items: ", ""))) //NON-NLS
@@ -82,7 +83,7 @@ public final class Day11 implements Day {
                                                         .replace("If false: throw to monkey ", "")); //NON-NLS
             
             monkeys.add(new Monkey(monkeys, items, operation, test, testTrue, testFalse));
-        }
+        });
         
         return monkeys;
     }
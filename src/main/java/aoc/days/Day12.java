@@ -1,12 +1,15 @@
 package aoc.days;
 
-import aoc.common.Day;
-import aoc.common.Point;
+import aoc.common.ByteGrid;
+import aoc.common.GraphSearch;
+import aoc.common.ModelCodec;
+import aoc.common.ParsedDay;
 import org.jetbrains.annotations.NonNls;
 
-import java.util.HashMap;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.util.List;
-import java.util.PriorityQueue;
 
 /**
  * <b>Day 12: Hill Climbing Algorithm</b><br>
@@ -20,89 +23,110 @@ import java.util.PriorityQueue;
  * search and start at the end and find the shortest path to the start. This is much faster for part 2 where you now
  * definitely need a priority queue and can just stop after finding the first "lowest" tile. If you would not use a
  * priority queue, the order of which you check the adjacent tiles would matter and you could find wrong solutions.<br>
- * Now the only difference between part 1 and part 2 is the break-condition in the BFS search.
+ * Now the only difference between part 1 and part 2 is the break-condition in the BFS search.<br>
+ * UPDATE: The elevations are parsed into a flat {@link ByteGrid} with a border which is lower than anything on the map,
+ * so the search works on plain indices and never has to check the bounds or hash a point.<br>
+ * UPDATE: All steps cost the same, so the priority queue was overkill after all: a plain BFS from the end finds the
+ * closest start just as well, and {@link GraphSearch} does it without a node object per step.
  *
  * @see <a href="https://adventofcode.com/2022/day/12">Day 12: Hill Climbing Algorithm</a>
  */
 @NonNls
-public final class Day12 implements Day {
+public final class Day12 implements ParsedDay<Day12.Trail> {
+    private static final byte BORDER = Byte.MIN_VALUE;
+    
+    @Override
+    public Trail parse(final List<String> input) {
+        return getTrail(input);
+    }
+    
     @Override
-    public Object part1(final List<String> input) {
-        return getShortestPathReverse(getTrail(input), false);
+    public ModelCodec<Trail> codec() {
+        return new Codec();
     }
     
     @Override
-    public Object part2(final List<String> input) {
-        return getShortestPathReverse(getTrail(input), true);
+    public Object solvePart1(final Trail trail) {
+        return getShortestPathReverse(trail, false);
+    }
+    
+    @Override
+    public Object solvePart2(final Trail trail) {
+        return getShortestPathReverse(trail, true);
     }
     
     private static int getShortestPathReverse(final Trail trail, final boolean part2) {
-        final var visited = new HashMap<Point, Integer>();
-        final var queue   = new PriorityQueue<Node>();
-        
-        queue.add(new Node(trail.end(), 0));
+        final var map     = trail.map();
+        final var search  = new GraphSearch(map.length(), 4);
+        final var offsets = new int[]{map.stride(), 1, -map.stride(), -1};
         
-        while (!queue.isEmpty()) {
-            final var node = queue.poll();
-            
-            if (part2 ? trail.map().get(node.point()) == 0 : node.point().equals(trail.start())) {
-                return node.distance();
-            }
-            
-            if (visited.getOrDefault(node.point(), Integer.MAX_VALUE) <= node.distance()) {
-                continue;
-            }
-            
-            visited.put(node.point(), node.distance());
-            
-            final var minElevation = trail.map().get(node.point()) - 1;
+        // The border is lower than any elevation, so we never leave the map.
+        final var found = search.bfs((node, out) -> {
+            final var minElevation = map.get(node) - 1;
+            var       count        = 0;
             
-            for (final var p : node.point().getNeighbours()) {
-                if (trail.map().getOrDefault(p, Integer.MIN_VALUE) >= minElevation) {
-                    queue.add(new Node(p, node.distance() + 1));
+            for (final var offset : offsets) {
+                if (map.get(node + offset) >= minElevation) {
+                    out[count++] = node + offset;
                 }
             }
+            
+            return count;
+        }, part2 ? node -> map.get(node) == 0 : node -> node == trail.start(), trail.end());
+        
+        if (found < 0) {
+            throw new IllegalStateException("No solution found");
         }
         
-        throw new IllegalStateException("No solution found");
+        return search.distance(found);
     }
     
     private static Trail getTrail(final List<String> input) {
-        final var map = new HashMap<Point, Integer>();
+        final var map = ByteGrid.parse(input, 1, BORDER, c -> switch (c) {
+            case 'S' -> 0; //NON-NLS
+            case 'E' -> 'z' - 'a'; //NON-NLS
+            default -> c - 'a'; //NON-NLS
+        });
         
-        Point start = null, end = null;
+        var start = -1;
+        var end   = -1;
         
-        for (int y = 0; y < input.size(); y++) {
+        for (var y = 0; y < input.size(); y++) {
             final var line = input.get(y);
             
-            for (int x = 0; x < line.length(); x++) {
-                var c = line.charAt(x);
-                if (c == 'S') { //NON-NLS
-                    start = new Point(x, y);
-                    c = 'a'; //NON-NLS
-                }
-                if (c == 'E') { //NON-NLS
-                    end = new Point(x, y);
-                    c = 'z'; //NON-NLS
-                }
-                map.put(new Point(x, y), c - 'a'); //NON-NLS
+            if (line.indexOf('S') >= 0) { //NON-NLS
+                start = map.index(line.indexOf('S'), y); //NON-NLS
+            }
+            if (line.indexOf('E') >= 0) { //NON-NLS
+                end = map.index(line.indexOf('E'), y); //NON-NLS
             }
         }
         
-        if (start == null || end == null) {
+        if (start < 0 || end < 0) {
             throw new IllegalStateException("No start or end");
         }
         
         return new Trail(map, start, end);
     }
     
-    private record Node(Point point, int distance) implements Comparable<Node> {
+    // The elevation grid (with its border), then start and end.
+    private static final class Codec implements ModelCodec<Trail> {
+        @Override
+        public void write(final Trail trail, final DataOutput out) throws IOException {
+            trail.map().write(out);
+            out.writeInt(trail.start());
+            out.writeInt(trail.end());
+        }
+        
         @Override
-        public int compareTo(final Node o) {
-            return Integer.compare(distance, o.distance);
+        public Trail read(final ByteBuffer buffer) {
+            return new Trail(ByteGrid.read(buffer), buffer.getInt(), buffer.getInt());
         }
     }
     
-    private record Trail(HashMap<Point, Integer> map, Point start, Point end) {
+    /**
+     * The parsed hill, start and end are indices into the map.
+     */
+    record Trail(ByteGrid map, int start, int end) {
     }
 }
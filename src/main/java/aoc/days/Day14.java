@@ -1,14 +1,12 @@
 package aoc.days;
 
 import aoc.common.Day;
+import aoc.common.LongHashSet;
+import aoc.common.LongQueue;
 import aoc.common.Point;
 import org.jetbrains.annotations.NonNls;
-import org.jetbrains.annotations.NotNull;
 
-import java.util.ArrayDeque;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 import java.util.regex.Pattern;
 
 /**
@@ -25,7 +23,10 @@ import java.util.regex.Pattern;
  * omitted in this case.<br>
  * After reading some comments in the AoC subreddit, I decided to also try a flood fill algorithm. More or less DFS
  * which I used similarly (BFS/DFS) on different days already and it really seems to be a silver bullet for so many AoC
- * problems.
+ * problems.<br>
+ * UPDATE: Rock and sand now share one {@link LongHashSet} of packed coordinates (see {@link Point#pack(int, int)})
+ * and the sand is counted while it settles, which is basically the "more efficient data structure" from above without
+ * having to guess the bounds of a boolean[][]. The flood fill queues the packed coordinates in a {@link LongQueue}.
  *
  * @see <a href="https://adventofcode.com/2022/day/14">Day 14: Regolith Reservoir</a>
  */
@@ -36,36 +37,38 @@ public final class Day14 implements Day {
     
     @Override
     public Object part1(final List<String> input) {
-        final var map  = getMap(input);
-        final var yMax = map.keySet().stream().mapToInt(Point::getY).max().orElse(0);
+        final var cave     = getCave(input);
+        final var occupied = cave.occupied();
+        var       sand     = 0L;
         
         while (true) {
-            var position = new Point(500, 0);
+            var x = 500;
+            var y = 0;
             
             while (true) {
-                final var positionNext = position.add(Point.UP);
+                final var yNext = y + 1;
                 
-                if (positionNext.getY() > yMax) {
-                    return getSandCount(map);
+                if (yNext > cave.yMax()) {
+                    return sand;
                 }
                 
-                Point tmpPosition = null;
-                
-                for (final var p : new Point[]{
-                        positionNext, positionNext.add(Point.LEFT), positionNext.add(Point.RIGHT)
-                }) {
-                    if (map.getOrDefault(p, Field.AIR) == Field.AIR) {
-                        tmpPosition = p;
-                        break;
-                    }
+                if (!occupied.contains(Point.pack(x, yNext))) {
+                    y = yNext;
+                    continue;
                 }
-                
-                if (tmpPosition != null) {
-                    position = tmpPosition;
+                if (!occupied.contains(Point.pack(x - 1, yNext))) {
+                    x--;
+                    y = yNext;
+                    continue;
+                }
+                if (!occupied.contains(Point.pack(x + 1, yNext))) {
+                    x++;
+                    y = yNext;
                     continue;
                 }
                 
-                map.put(position, Field.SAND);
+                occupied.add(Point.pack(x, y));
+                sand++;
                 break;
             }
         }
@@ -73,36 +76,36 @@ public final class Day14 implements Day {
     
     @Override
     public Object part2(final List<String> input) {
-        final var map       = getMap(input);
-        final var yMax      = map.keySet().stream().mapToInt(Point::getY).max().orElse(0) + 2;
-        final var fillQueue = new ArrayDeque<Point>();
+        final var cave      = getCave(input);
+        final var occupied  = cave.occupied();
+        final var yMax      = cave.yMax() + 2;
+        final var fillQueue = new LongQueue();
+        var       sand      = 0L;
         
-        fillQueue.add(new Point(500, 0));
+        fillQueue.add(Point.pack(500, 0));
         
         while (!fillQueue.isEmpty()) {
             final var point = fillQueue.poll();
+            final var x     = Point.unpackX(point);
+            final var y     = Point.unpackY(point);
             
-            if (point.getY() >= yMax || map.getOrDefault(point, Field.AIR) != Field.AIR) {
+            if (y >= yMax || !occupied.add(point)) {
                 continue;
             }
             
-            map.put(point, Field.SAND);
+            sand++;
             
-            fillQueue.add(point.add(Point.UP));
-            fillQueue.add(point.add(Point.UP).add(Point.LEFT));
-            fillQueue.add(point.add(Point.UP).add(Point.RIGHT));
+            fillQueue.add(Point.pack(x, y + 1));
+            fillQueue.add(Point.pack(x - 1, y + 1));
+            fillQueue.add(Point.pack(x + 1, y + 1));
         }
         
-        return getSandCount(map);
-    }
-    
-    private static long getSandCount(final Map<Point, Field> map) {
-        return map.values().stream().filter(field -> field == Field.SAND).count();
+        return sand;
     }
     
-    @NotNull
-    private static HashMap<Point, Field> getMap(final Iterable<String> input) {
-        final var map = new HashMap<Point, Field>();
+    private static Cave getCave(final Iterable<String> input) {
+        final var occupied = new LongHashSet();
+        var       yMax     = 0;
         
         for (final var line : input) {
             final var parts = ARROW.split(line);
@@ -117,16 +120,15 @@ public final class Day14 implements Day {
                 
                 for (var x = Math.min(fromX, toX); x <= Math.max(fromX, toX); x++) {
                     for (var y = Math.min(fromY, toY); y <= Math.max(fromY, toY); y++) {
-                        map.put(new Point(x, y), Field.ROCK);
+                        occupied.add(Point.pack(x, y));
                     }
                 }
+                yMax = Math.max(yMax, Math.max(fromY, toY));
             }
         }
         
-        return map;
+        return new Cave(occupied, yMax);
     }
     
-    private enum Field {
-        AIR, ROCK, SAND,
-    }
+    private record Cave(LongHashSet occupied, int yMax) {}
 }
@@ -1,6 +1,7 @@
 package aoc.days;
 
-import aoc.common.Day;
+import aoc.common.CharScanner;
+import aoc.common.ParsedDay;
 import aoc.common.Point;
 import org.jetbrains.annotations.NonNls;
 
@@ -31,19 +32,28 @@ import java.util.*;
  * @see <a href="https://adventofcode.com/2022/day/15">Day 15: Beacon Exclusion Zone</a>
  */
 @NonNls
-public final class Day15 implements Day {
+public final class Day15 implements ParsedDay<Map<Point, Point>> {
     @Override
-    public Object part1(final List<String> input) {
-        return part1WithParams(input, 2_000_000, 10_000_000);
+    public Map<Point, Point> parse(final List<String> input) {
+        return getSensorToBeaconMap(input);
+    }
+    
+    @Override
+    public Object solvePart1(final Map<Point, Point> sensorToBeaconMap) {
+        return part1WithParams(sensorToBeaconMap, 2_000_000, 10_000_000);
     }
     
     static long part1WithParams(final Iterable<String> input, final int yRow, final int xMax) {
-        final var sensorToBeaconMap = getSensorToBeaconMap(input, 1_000);
-        final var map               = new Field[xMax];
+        return part1WithParams(getSensorToBeaconMap(input), yRow, xMax);
+    }
+    
+    private static long part1WithParams(final Map<Point, Point> sensorToBeaconMap, final int yRow, final int xMax) {
+        final var map     = new Field[xMax];
+        final var xOffset = new Point(1_000, 0);
         
         for (final var sensorBeaconEntry : sensorToBeaconMap.entrySet()) {
-            final var sensor = sensorBeaconEntry.getKey();
-            final var beacon = sensorBeaconEntry.getValue();
+            final var sensor = sensorBeaconEntry.getKey().add(xOffset);
+            final var beacon = sensorBeaconEntry.getValue().add(xOffset);
             
             if (sensor.getY() == yRow) {
                 map[sensor.getX()] = Field.SENSOR;
@@ -69,13 +79,16 @@ public final class Day15 implements Day {
     }
     
     @Override
-    public Object part2(final List<String> input) {
-        return part2WithParams(input, 4_000_000);
+    public Object solvePart2(final Map<Point, Point> sensorToBeaconMap) {
+        return part2WithParams(sensorToBeaconMap, 4_000_000);
     }
     
     static long part2WithParams(final Iterable<String> input, final int max) {
-        final var                sensorToBeaconMap = getSensorToBeaconMap(input, 0);
-        final ArrayList<Range>[] map               = new ArrayList[max + 1];
+        return part2WithParams(getSensorToBeaconMap(input), max);
+    }
+    
+    private static long part2WithParams(final Map<Point, Point> sensorToBeaconMap, final int max) {
+        final ArrayList<Range>[] map = new ArrayList[max + 1];
         
         for (int i = 0; i < max + 1; i++) {
             map[i] = new ArrayList<>(12); // Found by debugging to prevent resizing
@@ -115,23 +128,13 @@ public final class Day15 implements Day {
         return -1;
     }
     
-    private static Map<Point, Point> getSensorToBeaconMap(final Iterable<String> input, final int xOffset) {
+    private static Map<Point, Point> getSensorToBeaconMap(final Iterable<String> input) {
         final var sensorToBeaconMap = new HashMap<Point, Point>();
+        final var scanner           = new CharScanner("");
         for (final var line : input) {
-            final var parts = line.replace("Sensor at", "") //NON-NLS
-                                  .replace("closest beacon is at", "") //NON-NLS
-                                  .split(":");
-            final var sensorParts = parts[0].split(",");
-            final var sensor = new Point(
-                    Integer.parseInt(sensorParts[0].replace("x=", "").trim()) + xOffset, //NON-NLS
-                    Integer.parseInt(sensorParts[1].replace("y=", "").trim()) //NON-NLS
-            );
-            
-            final var beaconParts = parts[1].split(",");
-            final var beacon = new Point(
-                    Integer.parseInt(beaconParts[0].replace("x=", "").trim()) + xOffset, //NON-NLS
-                    Integer.parseInt(beaconParts[1].replace("y=", "").trim()) //NON-NLS
-            );
+            scanner.reset(line);
+            final var sensor = new Point(scanner.nextInt(), scanner.nextInt());
+            final var beacon = new Point(scanner.nextInt(), scanner.nextInt());
             sensorToBeaconMap.put(sensor, beacon);
         }
         
@@ -1,10 +1,18 @@
 package aoc.days;
 
-import aoc.common.Day;
+import aoc.common.CharScanner;
+import aoc.common.GraphSearch;
+import aoc.common.ModelCodec;
+import aoc.common.ParsedDay;
+import aoc.common.PhaseEvent;
+import aoc.common.SolveContext;
 import org.jetbrains.annotations.NonNls;
 
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.util.*;
-import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
 /**
@@ -25,25 +33,27 @@ import java.util.stream.Collectors;
  * @see <a href="https://adventofcode.com/2022/day/16">Day 16: Proboscidea Volcanium</a>
  */
 @NonNls
-public final class Day16 implements Day {
-    private static final Pattern COMMA_AND_SPACE = Pattern.compile(", ");
-    private static final String  START           = "AA";
-    
-    private static final Map<String, Valve>                valves      = new HashMap<>();
-    private static       Map<String, Map<String, Integer>> distanceMap = new HashMap<>();
+public final class Day16 implements ParsedDay<Day16.Volcano> {
+    private static final String START = "AA";
     
     @Override
-    public Object part1(final List<String> input) {
+    @SuppressWarnings("try")
+    public Volcano parse(final List<String> input) {
+        final var valves = new HashMap<String, Valve>();
+        
+        final var scanner = new CharScanner("");
+        
         for (final var line : input) {
-            final var parts = line.replace("Valve ", "") //NON-NLS
-                                  .replace(" has flow rate=", ";") //NON-NLS
-                                  .replace(" tunnels lead to valves ", "") //NON-NLS
-                                  .replace(" tunnel leads to valve ", "") //NON-NLS
-                                  .split(";");
+            scanner.reset(line).skipWords(1);
+            final var valve    = scanner.nextWord().toString();
+            final var flowRate = scanner.nextInt();
             
-            final var valve     = parts[0];
-            final var flowRate  = Integer.parseInt(parts[1]);
-            final var neighbors = Arrays.stream(COMMA_AND_SPACE.split(parts[2])).toList();
+            // "tunnels lead to valves" or "tunnel leads to valve", both four words
+            scanner.skipPast(';').skipWords(4);
+            final var neighbors = new ArrayList<String>();
+            while (scanner.hasNextWord()) {
+                neighbors.add(scanner.nextWord().toString());
+            }
             
             valves.put(valve, new Valve(flowRate, neighbors));
         }
@@ -54,14 +64,33 @@ public final class Day16 implements Day {
                                             .map(Map.Entry::getKey)
                                             .collect(Collectors.toList());
         
-        distanceMap = calculateDistances(valves, interestingValves);
-        
-        return solve(30).values().stream().max(Integer::compareTo).orElseThrow();
+        try (final var ignored = PhaseEvent.start(Day16.class, "distances")) {
+            return new Volcano(valves, calculateDistances(valves, interestingValves));
+        }
     }
     
     @Override
-    public Object part2(final List<String> input) {
-        final var solutions = solve(26);
+    public ModelCodec<Volcano> codec() {
+        return new Codec();
+    }
+    
+    @Override
+    @SuppressWarnings("try")
+    public Object solvePart1(final Volcano volcano) {
+        try (final var ignored = PhaseEvent.start(Day16.class, "search")) {
+            return solve(volcano, 30).values().stream().max(Integer::compareTo).orElseThrow();
+        }
+    }
+    
+    @Override
+    @SuppressWarnings("try")
+    public Object solvePart2(final Volcano volcano) {
+        final Map<BestStep, Integer> solutions;
+        
+        try (final var ignored = PhaseEvent.start(Day16.class, "search")) {
+            solutions = solve(volcano, 26);
+        }
+        
         var       best      = 0;
         
         final var bestVisited = new HashMap<List<? super String>, Integer>();
@@ -116,15 +145,23 @@ public final class Day16 implements Day {
         }
     }
     
-    private static Map<BestStep, Integer> solve(final int minutes) {
-        final var bestStates = new HashMap<BestStep, Integer>();
+    private static Map<BestStep, Integer> solve(final Volcano volcano, final int minutes) {
+        final var valves      = volcano.valves();
+        final var distanceMap = volcano.distanceMap();
+        final var bestStates  = new HashMap<BestStep, Integer>();
         final var valveQueue = new ArrayDeque<SolveStep>();
+        final var context     = SolveContext.current();
+        var       explored    = 0L;
         
         valveQueue.add(new SolveStep(START, minutes, new ArrayList<>(), 0));
         
         while (!valveQueue.isEmpty()) {
             final var currentStep = valveQueue.poll();
             
+            if ((++explored & 0xFFF) == 0) {
+                context.progress("states", explored, "frontier", valveQueue.size());
+            }
+            
             if (currentStep.time() >= 1 && !currentStep.visited().contains(currentStep.valve())) {
                 if (!currentStep.valve().equals(START)) {
                     currentStep.visited().add(currentStep.valve());
@@ -166,35 +203,113 @@ public final class Day16 implements Day {
     private static Map<String, Map<String, Integer>> calculateDistances(
             final Map<String, Valve> valves, final Iterable<String> interestingValves
     ) {
-        final var map = new HashMap<String, Map<String, Integer>>();
+        // Number the valves, so one search engine can be reused for all the BFS runs.
+        final var names     = List.copyOf(valves.keySet());
+        final var ids       = new HashMap<String, Integer>();
+        final var tunnels   = new int[names.size()][];
+        var       maxDegree = 0;
+        
+        for (var i = 0; i < names.size(); i++) {
+            ids.put(names.get(i), i);
+        }
+        for (var i = 0; i < names.size(); i++) {
+            tunnels[i] = valves.get(names.get(i)).connections().stream().mapToInt(ids::get).toArray();
+            maxDegree = Math.max(maxDegree, tunnels[i].length);
+        }
+        
+        final var search = new GraphSearch(names.size(), maxDegree);
+        final var map    = new HashMap<String, Map<String, Integer>>();
         
         for (final var valve : interestingValves) {
-            map.put(valve, distancesMap(valve, valves));
+            search.bfs((node, out) -> {
+                System.arraycopy(tunnels[node], 0, out, 0, tunnels[node].length);
+                return tunnels[node].length;
+            }, ids.get(valve));
+            
+            final var distances = new HashMap<String, Integer>();
+            for (var i = 0; i < names.size(); i++) {
+                if (search.visited(i)) {
+                    distances.put(names.get(i), search.distance(i));
+                }
+            }
+            map.put(valve, distances);
         }
         
         return map;
     }
     
-    private static Map<String, Integer> distancesMap(final String from, final Map<String, Valve> valves) {
-        final var distances = new HashMap<String, Integer>();
-        final var queue     = new ArrayDeque<String>();
-        
-        queue.add(from);
+    // The valves with their tunnels, then the distance map. Names are short ASCII strings prefixed by their length.
+    private static final class Codec implements ModelCodec<Volcano> {
+        @Override
+        public void write(final Volcano volcano, final DataOutput out) throws IOException {
+            out.writeInt(volcano.valves().size());
+            for (final var valve : volcano.valves().entrySet()) {
+                writeName(out, valve.getKey());
+                out.writeInt(valve.getValue().flowRate());
+                out.writeInt(valve.getValue().connections().size());
+                for (final var connection : valve.getValue().connections()) {
+                    writeName(out, connection);
+                }
+            }
+            
+            out.writeInt(volcano.distanceMap().size());
+            for (final var from : volcano.distanceMap().entrySet()) {
+                writeName(out, from.getKey());
+                out.writeInt(from.getValue().size());
+                for (final var to : from.getValue().entrySet()) {
+                    writeName(out, to.getKey());
+                    out.writeInt(to.getValue());
+                }
+            }
+        }
         
-        while (!queue.isEmpty()) {
-            final var current = queue.remove();
+        @Override
+        public Volcano read(final ByteBuffer buffer) {
+            final var valves = new HashMap<String, Valve>();
+            
+            for (var i = buffer.getInt(); i > 0; i--) {
+                final var name        = readName(buffer);
+                final var flowRate    = buffer.getInt();
+                final var connections = new ArrayList<String>();
+                
+                for (var j = buffer.getInt(); j > 0; j--) {
+                    connections.add(readName(buffer));
+                }
+                valves.put(name, new Valve(flowRate, connections));
+            }
+            
+            final var distanceMap = new HashMap<String, Map<String, Integer>>();
             
-            for (final var neighbor : valves.get(current).connections()) {
-                if (!distances.containsKey(neighbor)) {
-                    distances.put(neighbor, distances.getOrDefault(current, 0) + 1);
-                    queue.add(neighbor);
+            for (var i = buffer.getInt(); i > 0; i--) {
+                final var from      = readName(buffer);
+                final var distances = new HashMap<String, Integer>();
+                
+                for (var j = buffer.getInt(); j > 0; j--) {
+                    distances.put(readName(buffer), buffer.getInt());
                 }
+                distanceMap.put(from, distances);
             }
+            
+            return new Volcano(valves, distanceMap);
         }
         
-        return distances;
+        private static void writeName(final DataOutput out, final String name) throws IOException {
+            out.writeByte(name.length());
+            out.writeBytes(name);
+        }
+        
+        private static String readName(final ByteBuffer buffer) {
+            final var bytes = new byte[buffer.get()];
+            
+            buffer.get(bytes);
+            return new String(bytes, StandardCharsets.US_ASCII);
+        }
+    }
+    
+    record Valve(int flowRate, List<String> connections) {
     }
     
-    private record Valve(int flowRate, List<String> connections) {
+    // All valves and the shortest distances between the interesting ones (start and valves with a flow rate).
+    record Volcano(Map<String, Valve> valves, Map<String, Map<String, Integer>> distanceMap) {
     }
 }
@@ -1,6 +1,6 @@
 package aoc.days;
 
-import aoc.common.Day;
+import aoc.common.ParsedDay;
 import aoc.common.Point;
 import org.jetbrains.annotations.NonNls;
 
@@ -27,17 +27,22 @@ import java.util.stream.Collectors;
  * @see <a href="https://adventofcode.com/2022/day/17">Day 17: Pyroclastic Flow</a>
  */
 @NonNls
-public final class Day17 implements Day {
+public final class Day17 implements ParsedDay<Point[]> {
     private static final Pattern EMPTY = Pattern.compile("");
     
     @Override
-    public Object part1(final List<String> input) {
-        return simulate(new BigInteger("2022"), getInstructions(input));
+    public Point[] parse(final List<String> input) {
+        return getInstructions(input);
     }
     
     @Override
-    public Object part2(final List<String> input) {
-        return simulate(new BigInteger("1000000000000"), getInstructions(input));
+    public Object solvePart1(final Point[] instructions) {
+        return simulate(new BigInteger("2022"), instructions);
+    }
+    
+    @Override
+    public Object solvePart2(final Point[] instructions) {
+        return simulate(new BigInteger("1000000000000"), instructions);
     }
     
     private static BigInteger simulate(final BigInteger loops, final Point[] instructions) {
@@ -1,10 +1,14 @@
 package aoc.days;
 
-import aoc.common.Day;
+import aoc.common.CharScanner;
+import aoc.common.GraphSearch;
+import aoc.common.ParsedDay;
 import org.jetbrains.annotations.NonNls;
 
-import java.util.*;
-import java.util.stream.Collectors;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import java.util.function.IntPredicate;
 
 /**
  * <b>Day 18: Boiling Boulders</b><br>
@@ -21,81 +25,83 @@ import java.util.stream.Collectors;
  * droplet + 1. Now the total surface area can be calculated by checking again all the possible sides from part 1 and
  * only counting the sides which are part of the "outside" (note we already checked for actual cubes which can never
  * be "outside" and no extra step is required here).<br>
+ * UPDATE: The cubes now live in a {@link BitSet} over a box with one empty layer around the droplet, so a cube is just
+ * an index and its sides are fixed offsets. The flood-fill is a {@link GraphSearch} from a corner of that box.
  *
  * @see <a href="https://adventofcode.com/2022/day/18">Day 18: Boiling Boulders</a>
  */
 @NonNls
-public final class Day18 implements Day {
+public final class Day18 implements ParsedDay<Day18.Droplet> {
     @Override
-    public Object part1(final List<String> input) {
-        final var cubes    = getCubes(input);
-        final var allSides = getAllSides(cubes);
+    public Droplet parse(final List<String> input) {
+        final var coordinates = input.stream().map(CharScanner::ints).toList();
+        final var min         = coordinates.stream().flatMapToInt(Arrays::stream).min().orElseThrow() - 1;
+        final var max         = coordinates.stream().flatMapToInt(Arrays::stream).max().orElseThrow() + 1;
+        final var size        = max - min + 1;
+        final var cubes       = new BitSet(size * size * size);
         
-        return allSides.stream().filter(side -> !cubes.contains(side)).count();
-    }
-    
-    @Override
-    public Object part2(final List<String> input) {
-        final var cubes    = getCubes(input);
-        final var allSides = getAllSides(cubes);
-        
-        final var outside      = new HashSet<Cube>();
-        final var cubeQueue = new ArrayDeque<Cube>();
-        
-        final var min = cubes.stream()
-                             .mapToInt(cube -> Math.min(cube.x(), Math.min(cube.y(), cube.z())))
-                             .min()
-                             .orElseThrow() - 1;
-        final var max = cubes.stream()
-                             .mapToInt(cube -> Math.max(cube.x(), Math.max(cube.y(), cube.z())))
-                             .max()
-                             .orElseThrow() + 1;
-        
-        cubeQueue.add(new Cube(min, min, min));
-        
-        while (!cubeQueue.isEmpty()) {
-            final var cube = cubeQueue.pop();
-            outside.add(cube);
-            
-            getSides(cube).stream()
-                          .filter(side -> !cubes.contains(side) && !outside.contains(side) && isInRange(side, min, max))
-                          .forEach(cubeQueue::push);
+        for (final var cube : coordinates) {
+            cubes.set(((cube[0] - min) * size + cube[1] - min) * size + cube[2] - min);
         }
         
-        return allSides.stream().filter(outside::contains).count();
-    }
-    
-    private static boolean isInRange(final Cube cube, final int min, final int max) {
-        return cube.x() >= min &&
-               cube.x() <= max &&
-               cube.y() >= min &&
-               cube.y() <= max &&
-               cube.z() >= min &&
-               cube.z() <= max;
+        return new Droplet(cubes, size);
     }
     
-    private static List<Cube> getAllSides(final Collection<Cube> cubes) {
-        return cubes.stream().flatMap(cube -> getSides(cube).stream()).collect(Collectors.toList());
+    @Override
+    public Object solvePart1(final Droplet droplet) {
+        return countSides(droplet, side -> !droplet.cubes().get(side));
     }
     
-    private static Set<Cube> getCubes(final Collection<String> input) {
-        return input.stream().map(s -> {
-            final var parts = s.split(",");
-            return new Cube(Integer.parseInt(parts[0]), Integer.parseInt(parts[1]), Integer.parseInt(parts[2]));
-        }).collect(Collectors.toSet());
+    @Override
+    public Object solvePart2(final Droplet droplet) {
+        final var size    = droplet.size();
+        final var offsets = droplet.offsets();
+        final var search  = new GraphSearch(size * size * size, offsets.length);
+        
+        // Flood-fill the outside, starting in a corner of the empty layer around the droplet.
+        search.bfs((node, out) -> {
+            var count = 0;
+            
+            for (var axis = 0; axis < 3; axis++) {
+                final var coordinate = node / offsets[2 * axis] % size;
+                
+                if (coordinate < size - 1 && !droplet.cubes().get(node + offsets[2 * axis])) {
+                    out[count++] = node + offsets[2 * axis];
+                }
+                if (coordinate > 0 && !droplet.cubes().get(node - offsets[2 * axis])) {
+                    out[count++] = node - offsets[2 * axis];
+                }
+            }
+            
+            return count;
+        }, 0);
+        
+        return countSides(droplet, search::visited);
     }
     
-    private record Cube(int x, int y, int z) {
+    private static long countSides(final Droplet droplet, final IntPredicate counted) {
+        final var cubes   = droplet.cubes();
+        final var offsets = droplet.offsets();
+        var       sides   = 0L;
+        
+        for (var cube = cubes.nextSetBit(0); cube >= 0; cube = cubes.nextSetBit(cube + 1)) {
+            for (final var offset : offsets) {
+                if (counted.test(cube + offset)) {
+                    sides++;
+                }
+            }
+        }
+        
+        return sides;
     }
     
-    private static Set<Cube> getSides(final Cube cube) {
-        return Set.of(
-                new Cube(cube.x() + 1, cube.y(), cube.z()),
-                new Cube(cube.x() - 1, cube.y(), cube.z()),
-                new Cube(cube.x(), cube.y() + 1, cube.z()),
-                new Cube(cube.x(), cube.y() - 1, cube.z()),
-                new Cube(cube.x(), cube.y(), cube.z() + 1),
-                new Cube(cube.x(), cube.y(), cube.z() - 1)
-        );
+    /**
+     * The cubes as indices into a box of {@code size³} with an empty layer on every side.
+     */
+    record Droplet(BitSet cubes, int size) {
+        // z, y and x neighbours, each as (+offset, -offset).
+        int[] offsets() {
+            return new int[]{1, -1, size, -size, size * size, -size * size};
+        }
     }
 }
@@ -1,8 +1,14 @@
 package aoc.days;
 
-import aoc.common.Day;
+import aoc.common.CharScanner;
+import aoc.common.ModelCodec;
+import aoc.common.ParsedDay;
+import aoc.common.SolveContext;
 import org.jetbrains.annotations.NonNls;
 
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.util.*;
 
 /**
@@ -28,11 +34,20 @@ import java.util.*;
  * @see <a href="https://adventofcode.com/2022/day/19">Day 19: Not Enough Minerals</a>
  */
 @NonNls
-public final class Day19 implements Day {
+public final class Day19 implements ParsedDay<List<Day19.Blueprint>> {
     @Override
-    public Object part1(final List<String> input) {
-        final var blueprints    = parseBlueprints(input);
-        var       qualityLevels = 0;
+    public List<Blueprint> parse(final List<String> input) {
+        return parseBlueprints(input);
+    }
+    
+    @Override
+    public ModelCodec<List<Blueprint>> codec() {
+        return new Codec();
+    }
+    
+    @Override
+    public Object solvePart1(final List<Blueprint> blueprints) {
+        var qualityLevels = 0;
         
         for (final var bp : blueprints) {
             final var bestGeodes = applyBlueprint(bp, 24);
@@ -44,9 +59,8 @@ public final class Day19 implements Day {
     }
     
     @Override
-    public Object part2(final List<String> input) {
-        final var blueprints = parseBlueprints(input);
-        var       product    = 1;
+    public Object solvePart2(final List<Blueprint> blueprints) {
+        var product = 1;
         
         for (final var bp : blueprints.stream().takeWhile(bp -> bp.id() <= 3).toList()) {
             final var bestGeodes = applyBlueprint(bp, 32);
@@ -60,12 +74,18 @@ public final class Day19 implements Day {
     private static int applyBlueprint(final Blueprint bp, final int minutes) {
         final var stateQueue = new ArrayDeque<>(List.of(new State(minutes)));
         final var stateSeen  = new HashSet<State>();
+        final var context    = SolveContext.current();
         
         var bestGeodes = 0;
+        var explored   = 0L;
         
         while (!stateQueue.isEmpty()) {
             final var state = stateQueue.pop();
             
+            if ((++explored & 0xFFF) == 0) {
+                context.progress("states", explored, "frontier", stateQueue.size());
+            }
+            
             bestGeodes = Math.max(bestGeodes, state.resources().geode());
             
             final var maxPossibleGeodes = state.resources().geode() +
@@ -137,29 +157,21 @@ public final class Day19 implements Day {
     }
     
     private static List<Blueprint> parseBlueprints(final Collection<String> input) {
+        final var scanner = new CharScanner("");
         return input.stream().map(line -> {
-            //noinspection HardCodedStringLiteral
-            final var parts = line.replace("Blueprint ", "")
-                                  .replace(": Each ore robot costs ", " ")
-                                  .replace(" ore. Each clay robot costs ", " ")
-                                  .replace(" ore. Each obsidian robot costs ", " ")
-                                  .replace(" clay. Each geode robot costs ", " ")
-                                  .replace(" ore and ", " ")
-                                  .replace(" obsidian.", "")
-                                  .split(" ");
-            
-            return new Blueprint(Integer.parseInt(parts[0]),
-                                 Integer.parseInt(parts[1]),
-                                 Integer.parseInt(parts[2]),
-                                 Integer.parseInt(parts[3]),
-                                 Integer.parseInt(parts[4]),
-                                 Integer.parseInt(parts[5]),
-                                 Integer.parseInt(parts[6])
+            scanner.reset(line);
+            return new Blueprint(scanner.nextInt(),
+                                 scanner.nextInt(),
+                                 scanner.nextInt(),
+                                 scanner.nextInt(),
+                                 scanner.nextInt(),
+                                 scanner.nextInt(),
+                                 scanner.nextInt()
             );
         }).toList();
     }
     
-    private record Blueprint(
+    record Blueprint(
             int id,
             int oreRobotOreCost,
             int clayRobotOreCost,
@@ -183,6 +195,36 @@ public final class Day19 implements Day {
         }
     }
     
+    // Seven ints per blueprint, preceded by their count.
+    private static final class Codec implements ModelCodec<List<Blueprint>> {
+        @Override
+        public void write(final List<Blueprint> blueprints, final DataOutput out) throws IOException {
+            out.writeInt(blueprints.size());
+            for (final var bp : blueprints) {
+                out.writeInt(bp.id());
+                out.writeInt(bp.oreRobotOreCost());
+                out.writeInt(bp.clayRobotOreCost());
+                out.writeInt(bp.obsidianRobotOreCost());
+                out.writeInt(bp.obsidianRobotClayCost());
+                out.writeInt(bp.geodeRobotOreCost());
+                out.writeInt(bp.geodeRobotObsidianCost());
+            }
+        }
+        
+        @Override
+        public List<Blueprint> read(final ByteBuffer buffer) {
+            final var count      = buffer.getInt();
+            final var blueprints = new ArrayList<Blueprint>(count);
+            
+            for (var i = 0; i < count; i++) {
+                blueprints.add(new Blueprint(buffer.getInt(), buffer.getInt(), buffer.getInt(), buffer.getInt(),
+                                             buffer.getInt(), buffer.getInt(), buffer.getInt()));
+            }
+            
+            return blueprints;
+        }
+    }
+    
     private record Resources(int ore, int clay, int obsidian, int geode) {
         private Resources() {
             this(0, 0, 0, 0);
@@ -1,10 +1,13 @@
 package aoc.days;
 
 import aoc.common.Day;
+import aoc.common.ParsedDay;
 import org.jetbrains.annotations.NonNls;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.IntStream;
 
 /**
@@ -20,16 +23,27 @@ import java.util.stream.IntStream;
  * Note that a solution with {@link java.util.Collections#rotate} would may work for part 1, but not for part 2 as
  * it modifies the whole sublist from current index to target index, so it would be too slow for part 2.<br>
  * Part 2 was straight forward, as I already calculated the positions in one go, so doing everything with big numbers
- * and all of it 10 times did not really matter, except I had to adapt the datatype to {@link Long}.
+ * and all of it 10 times did not really matter, except I had to adapt the datatype to {@link Long}.<br>
+ * UPDATE: There is a second strategy now ({@link BlockMixer}), which mixes plain int indices in blocks instead of
+ * records. This solution stays as the reference it is checked against (see {@link #strategies()}).
  *
  * @see <a href="https://adventofcode.com/2020/day/20">Day 20: Grove Positioning System</a>
  */
 @NonNls
-public final class Day20 implements Day {
+public final class Day20 implements ParsedDay<List<Day20.IndexedNumber>> {
     @Override
-    public Object part1(final List<String> input) {
-        final var original = parseNumbers(input);
-        final var numbers  = new ArrayList<>(original);
+    public List<IndexedNumber> parse(final List<String> input) {
+        return parseNumbers(input);
+    }
+    
+    @Override
+    public Map<String, Day> strategies() {
+        return Map.of(REFERENCE, this, BlockMixer.NAME, new BlockMixer());
+    }
+    
+    @Override
+    public Object solvePart1(final List<IndexedNumber> original) {
+        final var numbers = new ArrayList<>(original);
         
         mix(original, numbers);
         
@@ -37,14 +51,14 @@ public final class Day20 implements Day {
     }
     
     @Override
-    public Object part2(final List<String> input) {
+    public Object solvePart2(final List<IndexedNumber> numbersWithoutKey) {
         final var decryptionKey = 811589153L;
-        final var original = parseNumbers(input).stream()
-                                                .map(indexedNumber -> new IndexedNumber(indexedNumber.value() *
-                                                                                        decryptionKey,
-                                                                                        indexedNumber.index()
-                                                ))
-                                                .toList();
+        final var original = numbersWithoutKey.stream()
+                                              .map(indexedNumber -> new IndexedNumber(indexedNumber.value() *
+                                                                                      decryptionKey,
+                                                                                      indexedNumber.index()
+                                              ))
+                                              .toList();
         final var numbers = new ArrayList<>(original);
         
         for (int i = 0; i < 10; i++) {
@@ -94,8 +108,98 @@ public final class Day20 implements Day {
                         .toList();
     }
     
+    /**
+     * The optimized strategy: the original indices are mixed in about {@code sqrt(n)} blocks of about {@code sqrt(n)}
+     * ints each. Moving a number only scans its own block and the block sizes, and shifts the ints of two blocks,
+     * instead of {@code equals} calls on records and shifting the whole list of references.
+     */
+    static final class BlockMixer implements ParsedDay<long[]> {
+        static final String NAME = "blocks";
+        
+        @Override
+        public long[] parse(final List<String> input) {
+            return input.stream().mapToLong(Long::parseLong).toArray();
+        }
+        
+        @Override
+        public Object solvePart1(final long[] values) {
+            return mix(values, 1L, 1);
+        }
+        
+        @Override
+        public Object solvePart2(final long[] values) {
+            return mix(values, 811589153L, 10);
+        }
+        
+        private static long mix(final long[] original, final long decryptionKey, final int rounds) {
+            final var size      = original.length;
+            final var values    = Arrays.stream(original).map(value -> value * decryptionKey).toArray();
+            final var blockSize = (int) Math.ceil(Math.sqrt(size));
+            final var blocks    = new int[(size + blockSize - 1) / blockSize][];
+            final var lengths   = new int[blocks.length];
+            final var blockOf   = new int[size];
+            
+            for (var i = 0; i < size; i++) {
+                final var block = i / blockSize;
+                
+                if (blocks[block] == null) {
+                    blocks[block] = new int[blockSize * 2];
+                }
+                blocks[block][lengths[block]++] = i;
+                blockOf[i] = block;
+            }
+            
+            for (var round = 0; round < rounds; round++) {
+                for (var i = 0; i < size; i++) {
+                    // Remove the number from its block, counting its position on the way.
+                    final var from     = blockOf[i];
+                    final var fromData = blocks[from];
+                    var       offset   = 0;
+                    var       index    = 0;
+                    
+                    for (var block = 0; block < from; block++) {
+                        offset += lengths[block];
+                    }
+                    while (fromData[index] != i) {
+                        index++;
+                    }
+                    System.arraycopy(fromData, index + 1, fromData, index, --lengths[from] - index);
+                    
+                    // Then insert it into the block containing the target position.
+                    var target = (int) Math.floorMod(offset + index + values[i], size - 1L);
+                    var to     = 0;
+                    
+                    while (to < blocks.length - 1 && target > lengths[to]) {
+                        target -= lengths[to++];
+                    }
+                    if (lengths[to] == blocks[to].length) {
+                        blocks[to] = Arrays.copyOf(blocks[to], lengths[to] * 2);
+                    }
+                    System.arraycopy(blocks[to], target, blocks[to], target + 1, lengths[to]++ - target);
+                    blocks[to][target] = i;
+                    blockOf[i] = to;
+                }
+            }
+            
+            final var order = new int[size];
+            var       count = 0;
+            
+            for (var block = 0; block < blocks.length; block++) {
+                System.arraycopy(blocks[block], 0, order, count, lengths[block]);
+                count += lengths[block];
+            }
+            
+            final var zeroIndex = IntStream.range(0, size).filter(i -> values[i] == 0).findFirst().orElseThrow();
+            final var zero      = IntStream.range(0, size).filter(i -> order[i] == zeroIndex).findFirst().orElseThrow();
+            
+            return values[order[(zero + 1000) % size]] +
+                   values[order[(zero + 2000) % size]] +
+                   values[order[(zero + 3000) % size]];
+        }
+    }
+    
     // We need a way to differentiate between entries with the same value, so we add the index to the record which will
     // then be used in compares and hash values automatically.
-    private record IndexedNumber(long value, int index) {
+    record IndexedNumber(long value, int index) {
     }
 }
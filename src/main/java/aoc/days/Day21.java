@@ -25,7 +25,9 @@ import java.util.stream.Collectors;
  * I used some good old pen and paper to define the reversed operations, as GitHub Copilot did it the wrong way
  * around...<br>
  * After that, it's a simple tree traversal to resolve either the left or right side of each equation until we hit our
- * final "humn" node.
+ * final "humn" node.<br>
+ * UPDATE: The store of already evaluated monkeys was a static map, so a part 1 after a part 2 got stale results and
+ * two inputs could not be solved at the same time. It now lives only as long as a single part.
  *
  * @see <a href="https://adventofcode.com/2020/day/21">Day 21: Monkey Math</a>
  */
@@ -37,13 +39,13 @@ public final class Day21 implements Day {
     @Override
     public Object part1(final List<String> input) {
         final var monkeys = parseMonkeys(input);
-        return evalMonkey("root", monkeys);
+        return evalMonkey("root", monkeys, new HashMap<>());
     }
     
     @Override
     public Object part2(final List<String> input) {
-        monkeyStore.clear();
-    
+        final var monkeyStore = new HashMap<String, Long>();
+        
         //noinspection SpellCheckingInspection
         final var humn = "humn"; //NON-NLS
         final var monkeys = parseMonkeys(input);
@@ -55,8 +57,8 @@ public final class Day21 implements Day {
         final var right = parts[2];
         
         // We can use part1 to recursively evaluate the left and right sides of the equation and solve one side already.
-        evalMonkey(left, monkeys);
-        evalMonkey(right, monkeys);
+        evalMonkey(left, monkeys, monkeyStore);
+        evalMonkey(right, monkeys, monkeyStore);
         
         // One of them ***must*** be resolved, because if not, this equation is not solvable.
         var monkey = monkeyStore.get(left) != null ? right : left;
@@ -88,9 +90,8 @@ public final class Day21 implements Day {
                     .collect(Collectors.toMap(split -> split[0], split -> split[1]));
     }
     
-    private static final Map<String, Long> monkeyStore = new HashMap<>();
-    
-    private static @Nullable Long evalMonkey(final String monkey, final Map<String, String> monkeys) {
+    private static @Nullable Long evalMonkey(final String monkey, final Map<String, String> monkeys,
+                                             final Map<String, Long> monkeyStore) {
         if (monkeyStore.containsKey(monkey)) {
             return monkeyStore.get(monkey);
         }
@@ -111,8 +112,8 @@ public final class Day21 implements Day {
         
         final var parts    = SPACE.split(value);
         final var operator = parts[1];
-        final var left     = evalMonkey(parts[0], monkeys);
-        final var right    = evalMonkey(parts[2], monkeys);
+        final var left     = evalMonkey(parts[0], monkeys, monkeyStore);
+        final var right    = evalMonkey(parts[2], monkeys, monkeyStore);
         
         if (left == null || right == null) {
             monkeyStore.put(monkey, null);
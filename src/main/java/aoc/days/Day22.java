@@ -1,11 +1,11 @@
 package aoc.days;
 
-import aoc.common.Day;
+import aoc.common.CharGrid;
+import aoc.common.ParsedDay;
 import aoc.common.Point;
 import org.jetbrains.annotations.NonNls;
 
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.List;
 import java.util.regex.Pattern;
 
@@ -25,61 +25,70 @@ import java.util.regex.Pattern;
  * Yes, I know, this is not nice Java code with a lot of duplication, but this day was a mess and I really wanted to get
  * it over with. It is probably possible to generalize the rotation rules depending on the input, as the rotation rules
  * repeat itself (all are some sort of matrix transpositions). But this is left as an exercise to the reader 😉.<br>
- * Oh, and `assert` is your friend if you make assumptions about the state of your code or input etc, use it!
+ * Oh, and `assert` is your friend if you make assumptions about the state of your code or input etc, use it!<br>
+ * UPDATE: The board is now a padded {@link CharGrid}, which does the border for us and also works for any line width.
  *
  * @see <a href="https://adventofcode.com/2020/day/22">Day 22: Monkey Map</a>
  */
 @NonNls
-public final class Day22 implements Day {
+public final class Day22 implements ParsedDay<Day22.Notes> {
     
     private static final Pattern INSTRUCTIONS = Pattern.compile("(?<steps>\\d+)(?<turn>[L|R]?)");
     
     @Override
-    public Object part1(final List<String> input) {
-        // We create a board which is surrounded by a border of EMPTY tiles.
-        final var xMax  = input.get(10).length() + 2; // By inspection this works for test and actual input.
-        final var yMax  = input.size(); // We have 1 empty line and 1 instruction line, but add one at start & end each
-        final var board = new Tile[yMax][xMax];
+    public Notes parse(final List<String> input) {
+        // We create a board which is surrounded by a border of EMPTY tiles (we have 1 empty and 1 instruction line).
+        final var board        = CharGrid.parse(input.subList(0, input.size() - 2), 1, ' ');
+        final var xMax         = board.width() + 2;
+        final var yMax         = board.height() + 2;
+        final var instructions = getInstructions(input, input.size());
         
-        fillBoard(board, input, yMax);
-        final var instructions = getInstructions(input, yMax);
+        return new Notes(board, instructions, new Point(input.get(0).indexOf('.') + 1, 1), xMax, yMax);
+    }
+    
+    @Override
+    public Object solvePart1(final Notes notes) {
+        final var board        = notes.board();
+        final var instructions = notes.instructions();
+        final var xMax         = notes.xMax();
+        final var yMax         = notes.yMax();
         
-        var position  = new Point(input.get(0).indexOf('.') + 1, 1);
+        var position  = notes.start();
         var direction = Point.ARRAY_RIGHT;
         
         for (final var instruction : instructions) {
             for (int i = 0; i < instruction.steps(); i++) {
-                var next = board[position.getY() + direction.getY()][position.getX() + direction.getX()];
+                var next = tileAt(board, position.getX() + direction.getX(), position.getY() + direction.getY());
                 var wrap = new Point();
                 
                 // We have to wrap
                 if (next == Tile.EMPTY) {
                     if (direction.equals(Point.ARRAY_RIGHT)) {
                         var x = 0;
-                        while (board[position.getY()][x] == Tile.EMPTY) {
+                        while (tileAt(board, x, position.getY()) == Tile.EMPTY) {
                             x++;
                         }
                         wrap = new Point(x, position.getY());
                     } else if (direction.equals(Point.ARRAY_LEFT)) {
                         var x = xMax - 1;
-                        while (board[position.getY()][x] == Tile.EMPTY) {
+                        while (tileAt(board, x, position.getY()) == Tile.EMPTY) {
                             x--;
                         }
                         wrap = new Point(x, position.getY());
                     } else if (direction.equals(Point.ARRAY_DOWN)) {
                         var y = 0;
-                        while (board[y][position.getX()] == Tile.EMPTY) {
+                        while (tileAt(board, position.getX(), y) == Tile.EMPTY) {
                             y++;
                         }
                         wrap = new Point(position.getX(), y);
                     } else if (direction.equals(Point.ARRAY_UP)) {
                         var y = yMax - 1;
-                        while (board[y][position.getX()] == Tile.EMPTY) {
+                        while (tileAt(board, position.getX(), y) == Tile.EMPTY) {
                             y--;
                         }
                         wrap = new Point(position.getX(), y);
                     }
-                    next = board[wrap.getY()][wrap.getX()];
+                    next = tileAt(board, wrap.getX(), wrap.getY());
                 }
                 
                 if (next == Tile.WALL) {
@@ -102,27 +111,22 @@ public final class Day22 implements Day {
     }
     
     @Override
-    public Object part2(final List<String> input) {
-        // We create a board which is surrounded by a border of EMPTY tiles.
-        final var xMax  = input.get(10).length() + 2; // By inspection this works for test and actual input.
-        final var yMax  = input.size(); // We have 1 empty line and 1 instruction line, but add one at start & end each
-        final var board = new Tile[yMax][xMax];
+    public Object solvePart2(final Notes notes) {
+        final var board        = notes.board();
+        final var instructions = notes.instructions();
         
-        fillBoard(board, input, yMax);
-        final var instructions = getInstructions(input, yMax);
-        
-        var position  = new Point(input.get(0).indexOf('.') + 1, 1);
+        var position  = notes.start();
         var direction = Point.ARRAY_RIGHT;
         
         for (final var instruction : instructions) {
             for (int i = 0; i < instruction.steps(); i++) {
-                var next = board[position.getY() + direction.getY()][position.getX() + direction.getX()];
+                var next = tileAt(board, position.getX() + direction.getX(), position.getY() + direction.getY());
                 var wrap = new Orientation(new Point(), direction);
                 
                 // We have to wrap
                 if (next == Tile.EMPTY) {
                     wrap = getWrap(new Orientation(position, direction));
-                    next = board[wrap.position().getY()][wrap.position().getX()];
+                    next = tileAt(board, wrap.position().getX(), wrap.position().getY());
                 }
                 
                 if (next == Tile.WALL) {
@@ -253,16 +257,9 @@ public final class Day22 implements Day {
         return instructions;
     }
     
-    private static void fillBoard(final Tile[][] board, final List<String> input, final int yMax) {
-        Arrays.fill(board[0], Tile.EMPTY);
-        for (int y = 1; y < yMax - 1; y++) {
-            Arrays.fill(board[y], Tile.EMPTY);
-            
-            for (int x = 0; x < input.get(y - 1).length(); x++) {
-                board[y][x + 1] = Tile.fromChar(input.get(y - 1).charAt(x));
-            }
-        }
-        Arrays.fill(board[yMax - 1], Tile.EMPTY);
+    // The board keeps the coordinates of the original solution, where the border is at 0 (and at xMax - 1/yMax - 1).
+    private static Tile tileAt(final CharGrid board, final int x, final int y) {
+        return Tile.fromChar(board.get(x - 1, y - 1));
     }
     
     private static int getPassword(final Point position, final Point direction) {
@@ -279,7 +276,11 @@ public final class Day22 implements Day {
         return 1000 * position.getY() + 4 * position.getX() + facing;
     }
     
-    private record Instruction(int steps, Turn turn) {
+    record Instruction(int steps, Turn turn) {
+    }
+    
+    // The board is surrounded by a border of EMPTY tiles and never modified by the parts.
+    record Notes(CharGrid board, List<Instruction> instructions, Point start, int xMax, int yMax) {
     }
     
     private static Point turn(final Point direction, final Turn turn) {
@@ -313,7 +314,7 @@ public final class Day22 implements Day {
         throw new IllegalArgumentException("Unknown direction: %s".formatted(direction));
     }
     
-    private enum Turn {
+    enum Turn {
         LEFT, RIGHT, FULL, NONE;
         
         static Turn fromChar(final char charAt) {
@@ -327,7 +328,7 @@ public final class Day22 implements Day {
         }
     }
     
-    private enum Tile {
+    enum Tile {
         EMPTY, OPEN, WALL;
         
         @Override
@@ -1,12 +1,12 @@
 package aoc.days;
 
 import aoc.common.Day;
+import aoc.common.LongHashSet;
+import aoc.common.LongIntHashMap;
 import aoc.common.Point;
+import aoc.common.SolveContext;
 import org.jetbrains.annotations.NonNls;
 
-import java.util.ArrayList;
-import java.util.Collection;
-import java.util.Collections;
 import java.util.List;
 
 /**
@@ -24,9 +24,12 @@ import java.util.List;
  * <li>Note that it is not forbidden for an elf not to find a move. In that case, it does also nothing.</li>
  * <li>Make sure, you have your N-NE-NW, S-SE-SW, W-NW-SW, E-NE-SE order correct. I used my helper functions so I would
  * not mess up.</li>
- * <li>Check all proposed moves with each other. I used {@link Collections#frequency(Collection, Object)} for this.</li>
+ * <li>Check all proposed moves with each other. I used {@link java.util.Collections#frequency} for this.</li>
  * </ul>
- * But after all, a simple nice puzzle and the end is fast approaching!
+ * But after all, a simple nice puzzle and the end is fast approaching!<br>
+ * UPDATE: The elves are now packed coordinates (see {@link Point#pack(int, int)}) in a {@link LongHashSet} and the
+ * proposals are counted in a {@link LongIntHashMap} instead of calling frequency for each of them, which was quadratic
+ * in the number of proposals. Part 2 went from over a minute to below a second.
  *
  * @see <a href="https://adventofcode.com/2019/day/23">Day 23: Unstable Diffusion</a>
  */
@@ -41,69 +44,69 @@ public final class Day23 implements Day {
             couldDoRound(round, elves);
         }
         
-        final var xMin = elves.stream().mapToInt(Point::getX).min().orElseThrow();
-        final var xMax = elves.stream().mapToInt(Point::getX).max().orElseThrow();
-        final var yMin = elves.stream().mapToInt(Point::getY).min().orElseThrow();
-        final var yMax = elves.stream().mapToInt(Point::getY).max().orElseThrow();
+        final var bounds = new int[]{Integer.MAX_VALUE, Integer.MIN_VALUE, Integer.MAX_VALUE, Integer.MIN_VALUE};
         
-        var emptyCount = 0;
+        elves.forEach(elf -> {
+            bounds[0] = Math.min(bounds[0], Point.unpackX(elf));
+            bounds[1] = Math.max(bounds[1], Point.unpackX(elf));
+            bounds[2] = Math.min(bounds[2], Point.unpackY(elf));
+            bounds[3] = Math.max(bounds[3], Point.unpackY(elf));
+        });
         
-        for (var y = yMin; y <= yMax; y++) {
-            for (var x = xMin; x <= xMax; x++) {
-                if (!elves.contains(new Point(x, y))) {
-                    emptyCount++;
-                }
-            }
-        }
-        
-        return emptyCount;
+        // Every elf is inside the bounding rectangle, so the rest of it is empty.
+        return (bounds[1] - bounds[0] + 1) * (bounds[3] - bounds[2] + 1) - elves.size();
     }
     
     @Override
     public Object part2(final List<String> input) {
-        final var elves = parseElves(input);
-        var       round = 0;
+        final var elves   = parseElves(input);
+        final var context = SolveContext.current();
+        var       round   = 0;
         
         while (couldDoRound(round++, elves)) {
-            // loop
+            context.progress("rounds", round);
         }
         
         return round;
     }
     
-    private static boolean couldDoRound(final int round, final Collection<Point> elves) {
-        var didChange = false;
-        
-        final var proposedMoves = new ArrayList<ElfMove>();
+    private static boolean couldDoRound(final int round, final LongHashSet elves) {
+        final var proposedFrom  = new long[elves.size()];
+        final var proposedTo    = new long[elves.size()];
+        final var proposedCount = new LongIntHashMap(elves.size());
+        var       proposals     = 0;
         
-        final var elvesWithNeighbors = elves.stream().filter(elf -> {
-            for (final var neighbor : elf.getAdjacentIterable()) {
-                if (elves.contains(neighbor)) {
-                    return true;
-                }
+        for (final var elf : elves.toArray()) {
+            final var x = Point.unpackX(elf);
+            final var y = Point.unpackY(elf);
+            
+            if (!Point.anyAdjacent(x, y, (adjacentX, adjacentY) -> elves.contains(Point.pack(adjacentX, adjacentY)))) {
+                continue;
             }
-            return false;
-        }).toList();
-        
-        for (final var elf : elvesWithNeighbors) {
+            
             for (var i = 0; i < directions.length; i++) {
                 final var direction = directions[(i + round) % directions.length];
                 
-                if (!elves.contains(elf.add(direction[0])) &&
-                    !elves.contains(elf.add(direction[1])) &&
-                    !elves.contains(elf.add(direction[2]))) {
-                    proposedMoves.add(new ElfMove(elf, elf.add(direction[0])));
+                if (!elves.contains(Point.pack(x + direction[0], y + direction[1])) &&
+                    !elves.contains(Point.pack(x + direction[2], y + direction[3])) &&
+                    !elves.contains(Point.pack(x + direction[4], y + direction[5]))) {
+                    final var next = Point.pack(x + direction[0], y + direction[1]);
+                    
+                    proposedFrom[proposals] = elf;
+                    proposedTo[proposals] = next;
+                    proposals++;
+                    proposedCount.addTo(next, 1);
                     break;
                 }
             }
         }
         
-        final var proposedMovesNextList = proposedMoves.stream().map(ElfMove::next).toList();
+        var didChange = false;
         
-        for (final var proposedMove : proposedMoves) {
-            if (Collections.frequency(proposedMovesNextList, proposedMove.next()) == 1) {
-                elves.remove(proposedMove.elf());
-                elves.add(proposedMove.next());
+        for (var i = 0; i < proposals; i++) {
+            if (proposedCount.get(proposedTo[i], 0) == 1) {
+                elves.remove(proposedFrom[i]);
+                elves.add(proposedTo[i]);
                 didChange = true;
             }
         }
@@ -111,27 +114,27 @@ public final class Day23 implements Day {
         return didChange;
     }
     
-    private static Collection<Point> parseElves(final List<String> input) {
-        final var elves = new ArrayList<Point>();
+    private static LongHashSet parseElves(final List<String> input) {
+        final var elves = new LongHashSet();
         
         for (var y = 0; y < input.size(); y++) {
             final var line = input.get(y);
             for (var x = 0; x < line.length(); x++) {
                 if (line.charAt(x) == '#') {
-                    elves.add(new Point(x, y));
+                    elves.add(Point.pack(x, y));
                 }
             }
         }
         return elves;
     }
     
-    private static final Point[][] directions = {
-            {Point.ARRAY_UP, Point.ARRAY_UP.add(Point.ARRAY_LEFT), Point.ARRAY_UP.add(Point.ARRAY_RIGHT)},
-            {Point.ARRAY_DOWN, Point.ARRAY_DOWN.add(Point.ARRAY_LEFT), Point.ARRAY_DOWN.add(Point.ARRAY_RIGHT)},
-            {Point.ARRAY_LEFT, Point.ARRAY_LEFT.add(Point.ARRAY_UP), Point.ARRAY_LEFT.add(Point.ARRAY_DOWN)},
-            {Point.ARRAY_RIGHT, Point.ARRAY_RIGHT.add(Point.ARRAY_UP), Point.ARRAY_RIGHT.add(Point.ARRAY_DOWN)},
+    /**
+     * The x/y offsets of the three cells to check per direction (N, S, W, E), the first one is the move itself.
+     */
+    private static final int[][] directions = {
+            {0, -1, -1, -1, 1, -1},
+            {0, 1, -1, 1, 1, 1},
+            {-1, 0, -1, -1, -1, 1},
+            {1, 0, 1, -1, 1, 1},
             };
-    
-    private record ElfMove(Point elf, Point next) {
-    }
 }
@@ -1,10 +1,16 @@
 package aoc.days;
 
-import aoc.common.Day;
-import aoc.common.Point;
+import aoc.common.BitGrid;
+import aoc.common.ModelCodec;
+import aoc.common.ParsedDay;
+import aoc.common.PhaseEvent;
+import aoc.common.SolveContext;
 import org.jetbrains.annotations.NonNls;
 
-import java.util.*;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.List;
 
 /**
  * <b>Day 24: Blizzard Basin</b><br>
@@ -17,169 +23,160 @@ import java.util.*;
  * Part 1 and 2 can be done easily by BFS over all possible paths and I calculate the blizzards on each turn. This could
  * be optimized by calculating the blizzards cyclic states, but I do not think this is actually required, as the space
  * is not that big.<br>
- * I will update the code accordingly if I find the reason for the off-by-two error.
+ * I will update the code accordingly if I find the reason for the off-by-two error.<br>
+ * UPDATE: The valley is now a {@link BitGrid} (without the walls) for each blizzard direction and for the expedition.
+ * The blizzards of a direction all move the same way, so each minute is just a rotation of their grid by one, and
+ * spreading the expedition to all neighbours is an or of four shifted copies. Start and end lie outside the grid and
+ * are tracked as two flags.
  *
  * @see <a href="https://adventofcode.com/2018/day/24">Day 24: Blizzard Basin</a>
  */
 @NonNls
-public final class Day24 implements Day {
+public final class Day24 implements ParsedDay<Day24.Map> {
+    // Same order as in Map: left, right, up, down
+    private static final int[][] MOVES = {{-1, 0}, {1, 0}, {0, -1}, {0, 1}};
+    
     @Override
-    public Object part1(final List<String> input) {
-        final var map = parseMap(input);
-        
-        final var start = new Point(1, 0);
-        final var end   = new Point(map.xMax() - 1, map.yMax());
-        
-        return doTrip(map, start, end, 0);
+    public Map parse(final List<String> input) {
+        return parseMap(input);
     }
     
     @Override
-    public Object part2(final List<String> input) {
-        final var map = parseMap(input);
-        
-        final var start = new Point(1, 0);
-        final var end   = new Point(map.xMax() - 1, map.yMax());
-        
-        return doTrip(map, start, end, 2);
+    public ModelCodec<Map> codec() {
+        return new Codec();
+    }
+    
+    @Override
+    public Object solvePart1(final Map map) {
+        return doTrip(map, 0);
+    }
+    
+    @Override
+    public Object solvePart2(final Map map) {
+        return doTrip(map, 2);
     }
     
     private static Map parseMap(final List<String> input) {
-        final var leftBlizzards  = new ArrayList<Point>();
-        final var rightBlizzards = new ArrayList<Point>();
-        final var upBlizzards    = new ArrayList<Point>();
-        final var downBlizzards  = new ArrayList<Point>();
-        final var xMax           = input.get(0).length() - 1;
-        final var yMax           = input.size() - 1;
+        final var width          = input.get(0).length() - 2;
+        final var height         = input.size() - 2;
+        final var leftBlizzards  = new BitGrid(width, height);
+        final var rightBlizzards = new BitGrid(width, height);
+        final var upBlizzards    = new BitGrid(width, height);
+        final var downBlizzards  = new BitGrid(width, height);
         
-        for (var y = 1; y < yMax; y++) {
-            final var line = input.get(y);
-            for (var x = 1; x < xMax; x++) {
-                switch (line.charAt(x)) {
-                    case '>' -> rightBlizzards.add(new Point(x, y));
-                    case '<' -> leftBlizzards.add(new Point(x, y));
-                    case '^' -> upBlizzards.add(new Point(x, y));
-                    case 'v' -> downBlizzards.add(new Point(x, y));
+        for (var y = 0; y < height; y++) {
+            final var line = input.get(y + 1);
+            for (var x = 0; x < width; x++) {
+                switch (line.charAt(x + 1)) {
+                    case '>' -> rightBlizzards.set(x, y);
+                    case '<' -> leftBlizzards.set(x, y);
+                    case '^' -> upBlizzards.set(x, y);
+                    case 'v' -> downBlizzards.set(x, y);
                 }
             }
         }
         
-        return new Map(leftBlizzards, rightBlizzards, upBlizzards, downBlizzards, xMax, yMax);
+        return new Map(leftBlizzards, rightBlizzards, upBlizzards, downBlizzards);
     }
     
-    private static int doTrip(final Map map, final Point start, final Point end, final int stage) {
-        var currentMap = map;
-        var positions  = Set.of(new Position(start, stage));
-        var steps      = 0;
+    // The start is above the top left cell of the grid and the end below the bottom right cell.
+    @SuppressWarnings("try")
+    private static int doTrip(final Map map, final int stages) {
+        final var width     = map.leftBlizzards().width();
+        final var height    = map.leftBlizzards().height();
+        final var blizzards = new BitGrid(width, height);
+        final var moving    = new BitGrid[]{
+                new BitGrid(map.leftBlizzards()),
+                new BitGrid(map.rightBlizzards()),
+                new BitGrid(map.upBlizzards()),
+                new BitGrid(map.downBlizzards())
+        };
+        final var context   = SolveContext.current();
+        var       spare     = new BitGrid(width, height);
+        var       positions = new BitGrid(width, height);
+        var       next      = new BitGrid(width, height);
+        var       atStart   = true;
+        var       atEnd     = false;
+        var       stage     = stages;
+        var       steps     = 0;
         
         while (true) {
             steps++;
-            currentMap = doMove(currentMap);
-            
-            final var blizzards     = currentMap.getAllBlizzards();
-            final var nextPositions = new HashSet<Position>();
+            context.progress("minutes", steps);
             
-            for (final var position : positions) {
-                final var neighbors = new ArrayList<>(position.point().getNeighbours());
-                neighbors.add(position.point());
-                
-                for (final var neighbor : neighbors) {
-                    // Back to start and end is ok
-                    if (neighbor.equals(start) || neighbor.equals(end)) {
-                        nextPositions.add(new Position(neighbor, position.stage()));
-                        continue;
-                    }
-                    // Grid limits and blizzards ignore
-                    if (neighbor.getX() <= 0 ||
-                        neighbor.getX() >= map.xMax() ||
-                        neighbor.getY() <= 0 ||
-                        neighbor.getY() >= map.yMax() ||
-                        blizzards.contains(neighbor)) {
-                        continue;
-                    }
-                    
-                    nextPositions.add(new Position(neighbor, position.stage()));
+            try (final var ignored = PhaseEvent.start(Day24.class, "blizzards")) {
+                spare = doMove(moving, spare);
+                blizzards.clear();
+                for (final var grid : moving) {
+                    blizzards.or(grid);
                 }
             }
             
-            positions = new HashSet<>();
+            // Start and end are never hit by a blizzard, so waiting there is always possible.
+            final var reachedStart = atStart || positions.get(0, 0);
+            final var reachedEnd   = atEnd || positions.get(width - 1, height - 1);
             
-            for (final var position : nextPositions) {
-                if (position.stage() == 2 && position.point().equals(end)) {
-                    positions.clear();
-                    positions.add(new Position(end, 1));
-                    break;
+            try (final var ignored = PhaseEvent.start(Day24.class, "search")) {
+                next.copyFrom(positions);
+                next.orNeighbours(positions);
+                if (atStart) {
+                    next.set(0, 0);
                 }
-                if (position.stage() == 1 && position.point().equals(start)) {
-                    positions.clear();
-                    positions.add(new Position(start, 0));
-                    break;
+                if (atEnd) {
+                    next.set(width - 1, height - 1);
                 }
-                if (position.stage() == 0 && position.point().equals(end)) {
+                next.andNot(blizzards);
+            }
+            
+            final var tmp = positions;
+            positions = next;
+            next = tmp;
+            atStart = reachedStart;
+            atEnd = reachedEnd;
+            
+            if (stage == 1 ? atStart : atEnd) {
+                if (stage == 0) {
                     return steps;
                 }
-                positions.add(position);
+                positions.clear();
+                atStart = stage == 1;
+                atEnd = !atStart;
+                stage--;
             }
         }
     }
     
-    private record Position(Point point, int stage) {
-    }
-    
-    private static Map doMove(final Map map) {
-        final var newLeftBlizzards  = new ArrayList<Point>();
-        final var newRightBlizzards = new ArrayList<Point>();
-        final var newUpBlizzards    = new ArrayList<Point>();
-        final var newDownBlizzards  = new ArrayList<Point>();
+    // Rotates each blizzard grid by one step in its direction and returns the spare grid to use next time.
+    private static BitGrid doMove(final BitGrid[] blizzards, final BitGrid spare) {
+        var free = spare;
         
-        for (final var leftBlizzard : map.leftBlizzards()) {
-            var next = leftBlizzard.add(Point.ARRAY_LEFT);
-            if (next.getX() == 0) {
-                next = new Point(map.xMax() - 1, leftBlizzard.getY());
-            }
-            newLeftBlizzards.add(next);
-        }
-        for (final var rightBlizzard : map.rightBlizzards()) {
-            var next = rightBlizzard.add(Point.ARRAY_RIGHT);
-            if (next.getX() == map.xMax()) {
-                next = new Point(1, rightBlizzard.getY());
-            }
-            newRightBlizzards.add(next);
-        }
-        for (final var upBlizzard : map.upBlizzards()) {
-            var next = upBlizzard.add(Point.ARRAY_UP);
-            if (next.getY() == 0) {
-                next = new Point(upBlizzard.getX(), map.yMax() - 1);
-            }
-            newUpBlizzards.add(next);
-        }
-        for (final var downBlizzard : map.downBlizzards()) {
-            var next = downBlizzard.add(Point.ARRAY_DOWN);
-            if (next.getY() == map.yMax()) {
-                next = new Point(downBlizzard.getX(), 1);
-            }
-            newDownBlizzards.add(next);
+        for (var i = 0; i < blizzards.length; i++) {
+            free.rotateFrom(blizzards[i], MOVES[i][0], MOVES[i][1]);
+            
+            final var tmp = blizzards[i];
+            blizzards[i] = free;
+            free = tmp;
         }
         
-        return new Map(newLeftBlizzards, newRightBlizzards, newUpBlizzards, newDownBlizzards, map.xMax(), map.yMax());
+        return free;
     }
     
-    private record Map(
-            List<Point> leftBlizzards,
-            List<Point> rightBlizzards,
-            List<Point> upBlizzards,
-            List<Point> downBlizzards,
-            int xMax,
-            int yMax
-    ) {
-        HashSet<Point> getAllBlizzards() {
-            final var blizzards = new HashSet<Point>();
-            
-            blizzards.addAll(leftBlizzards);
-            blizzards.addAll(rightBlizzards);
-            blizzards.addAll(upBlizzards);
-            blizzards.addAll(downBlizzards);
-            
-            return blizzards;
+    // The four blizzard grids in the order of the record.
+    private static final class Codec implements ModelCodec<Map> {
+        @Override
+        public void write(final Map map, final DataOutput out) throws IOException {
+            map.leftBlizzards().write(out);
+            map.rightBlizzards().write(out);
+            map.upBlizzards().write(out);
+            map.downBlizzards().write(out);
         }
+        
+        @Override
+        public Map read(final ByteBuffer buffer) {
+            return new Map(BitGrid.read(buffer), BitGrid.read(buffer), BitGrid.read(buffer), BitGrid.read(buffer));
+        }
+    }
+    
+    record Map(BitGrid leftBlizzards, BitGrid rightBlizzards, BitGrid upBlizzards, BitGrid downBlizzards) {
     }
 }
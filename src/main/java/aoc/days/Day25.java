@@ -1,14 +1,14 @@
 package aoc.days;
 
-import aoc.common.Day;
+import aoc.common.StreamingDay;
 import org.jetbrains.annotations.NonNls;
 
-import java.util.List;
+import java.util.Iterator;
 
 /**
  * <b>Day 25: Full of Hot Air</b><br>
  * Base 5 and a half.<br>
- * A nice little modulus problem to finish off. The {@link #fromSNAFU(String)} method is straight forward and I think
+ * A nice little modulus problem to finish off. The {@link #fromSNAFU(CharSequence)} method is straight forward and I think
  * there is no other sane way to do. The {@link #toSNAFU(long)} method is a bit more interesting. If you ever wrote a
  * base conversion algorithm, you should have seen this coming (in our case, we do a special treatment for the -2 and -1
  * case, which normally would be 3 and 4 in base 5 and just be subtracted from the initial sum). Nice to see, that even
@@ -19,18 +19,24 @@ import java.util.List;
  * @see <a href="https://adventofcode.com/2015/day/25">Day 25: Full of Hot Air</a>
  */
 @NonNls
-public final class Day25 implements Day {
+public final class Day25 implements StreamingDay {
     @Override
-    public Object part1(final List<String> input) {
-        return toSNAFU(input.stream().mapToLong(Day25::fromSNAFU).sum());
+    public Object part1(final Iterator<? extends CharSequence> lines) {
+        var sum = 0L;
+        
+        while (lines.hasNext()) {
+            sum += fromSNAFU(lines.next());
+        }
+        
+        return toSNAFU(sum);
     }
     
     @Override
-    public Object part2(final List<String> input) {
+    public Object part2(final Iterator<? extends CharSequence> lines) {
         return "Merry Xmas!";
     }
     
-    private static long fromSNAFU(final String s) {
+    private static long fromSNAFU(final CharSequence s) {
         var sum = 0L;
         for (int i = 0; i < s.length(); i++) {
             //noinspection NumericCastThatLosesPrecision
@@ -0,0 +1,25 @@
+package aoc.generators;
+
+import java.util.Random;
+import java.util.function.Consumer;
+
+/**
+ * Day 01: groups of calories per elf, separated by empty lines (250 elves per scale).
+ */
+public final class Day01Generator implements Generator {
+    @Override
+    public void generate(final int scale, final Random random, final Consumer<String> out) {
+        final var elves = 250 * scale;
+        
+        for (var elf = 0; elf < elves; elf++) {
+            if (elf > 0) {
+                out.accept("");
+            }
+            
+            final var items = 1 + random.nextInt(15);
+            for (var item = 0; item < items; item++) {
+                out.accept(String.valueOf(1_000 + random.nextInt(59_000)));
+            }
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package aoc.generators;
+
+import java.util.Random;
+import java.util.function.Consumer;
+
+/**
+ * Day 02: one round of rock paper scissors per line (2500 rounds per scale).
+ */
+public final class Day02Generator implements Generator {
+    @Override
+    public void generate(final int scale, final Random random, final Consumer<String> out) {
+        final var rounds = 2_500 * scale;
+        
+        for (var round = 0; round < rounds; round++) {
+            out.accept("%c %c".formatted('A' + random.nextInt(3), 'X' + random.nextInt(3))); //NON-NLS
+        }
+    }
+}
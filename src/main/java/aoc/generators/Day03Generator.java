@@ -0,0 +1,71 @@
+package aoc.generators;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Consumer;
+
+/**
+ * Day 03: rucksacks in groups of three (100 groups per scale).<br>
+ * The puzzle requires exactly one item in both compartments of a rucksack and exactly one badge shared by the group.
+ * Therefore, each rucksack of a group draws its items from its own third of the remaining item types, and each
+ * compartment from its own half of that, except for the one shared item and the badge.
+ */
+public final class Day03Generator implements Generator {
+    private static final String ITEMS = "abcdefghijklmnopqrstuvwxyzABCDEFGHIJKLMNOPQRSTUVWXYZ"; //NON-NLS
+    
+    @Override
+    public void generate(final int scale, final Random random, final Consumer<String> out) {
+        final var groups = 100 * scale;
+        
+        for (var group = 0; group < groups; group++) {
+            final var types = new ArrayList<Character>();
+            for (final var item : ITEMS.toCharArray()) {
+                types.add(item);
+            }
+            Collections.shuffle(types, random);
+            
+            final var badge = types.remove(types.size() - 1);
+            final var pool  = types.size() / 3;
+            
+            for (var elf = 0; elf < 3; elf++) {
+                out.accept(rucksack(types.subList(elf * pool, (elf + 1) * pool), badge, random));
+            }
+        }
+    }
+    
+    private static String rucksack(final List<Character> pool, final char badge, final Random random) {
+        final var shared = pool.get(0);
+        final var half   = (pool.size() - 1) / 2;
+        final var left   = pool.subList(1, 1 + half);
+        final var right  = pool.subList(1 + half, pool.size());
+        final var size   = 4 + random.nextInt(12);
+        
+        final var leftItems  = compartment(left, shared, size, random);
+        final var rightItems = compartment(right, shared, size, random);
+        
+        // The badge replaces an item which is not the shared one in one of the compartments.
+        (random.nextBoolean() ? leftItems : rightItems).set(1 + random.nextInt(size - 1), badge);
+        Collections.shuffle(leftItems, random);
+        Collections.shuffle(rightItems, random);
+        
+        final var builder = new StringBuilder(2 * size);
+        leftItems.forEach(builder::append);
+        rightItems.forEach(builder::append);
+        
+        return builder.toString();
+    }
+    
+    private static List<Character> compartment(final List<Character> pool, final char shared, final int size,
+                                               final Random random) {
+        final var items = new ArrayList<Character>(size);
+        
+        items.add(shared);
+        while (items.size() < size) {
+            items.add(pool.get(random.nextInt(pool.size())));
+        }
+        
+        return items;
+    }
+}
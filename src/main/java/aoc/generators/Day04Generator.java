@@ -0,0 +1,25 @@
+package aoc.generators;
+
+import java.util.Random;
+import java.util.function.Consumer;
+
+/**
+ * Day 04: pairs of section ranges (1000 pairs per scale).
+ */
+public final class Day04Generator implements Generator {
+    @Override
+    public void generate(final int scale, final Random random, final Consumer<String> out) {
+        final var pairs = 1_000 * scale;
+        
+        for (var pair = 0; pair < pairs; pair++) {
+            out.accept("%s,%s".formatted(range(random), range(random)));
+        }
+    }
+    
+    private static String range(final Random random) {
+        final var start = 1 + random.nextInt(99);
+        final var end   = start + random.nextInt(100 - start);
+        
+        return "%d-%d".formatted(start, end);
+    }
+}
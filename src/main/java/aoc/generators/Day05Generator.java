@@ -0,0 +1,84 @@
+package aoc.generators;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Random;
+import java.util.function.Consumer;
+
+/**
+ * Day 05: a drawing of nine crate stacks and the rearrangement procedure (stacks up to 8 crates high and 500 moves per
+ * scale).<br>
+ * The moves are simulated while generating, so no move takes more crates than its stack holds and every stack keeps at
+ * least one crate for the final message.
+ */
+public final class Day05Generator implements Generator {
+    private static final int STACKS = 9;
+    
+    @Override
+    public void generate(final int scale, final Random random, final Consumer<String> out) {
+        final var stacks = new ArrayList<Deque<Character>>();
+        var       height = 0;
+        
+        for (var i = 0; i < STACKS; i++) {
+            final var stack = new ArrayDeque<Character>();
+            final var size  = 2 + random.nextInt(7 * scale);
+            
+            for (var crate = 0; crate < size; crate++) {
+                stack.push((char) ('A' + random.nextInt(26)));
+            }
+            stacks.add(stack);
+            height = Math.max(height, size);
+        }
+        
+        // The drawing goes top down, every row padded to the full width.
+        for (var level = height - 1; level >= 0; level--) {
+            final var row = new StringBuilder(4 * STACKS);
+            for (final var stack : stacks) {
+                if (!row.isEmpty()) {
+                    row.append(' ');
+                }
+                if (stack.size() > level) {
+                    row.append('[').append(crateAt(stack, level)).append(']');
+                } else {
+                    row.append("   ");
+                }
+            }
+            out.accept(row.toString());
+        }
+        
+        final var labels = new StringBuilder(4 * STACKS);
+        for (var i = 1; i <= STACKS; i++) {
+            labels.append(' ').append(i).append("  ");
+        }
+        out.accept(labels.substring(0, 4 * STACKS - 1));
+        out.accept("");
+        
+        final var moves = 500 * scale;
+        
+        for (var move = 0; move < moves; move++) {
+            int from;
+            do {
+                from = random.nextInt(STACKS);
+            } while (stacks.get(from).size() < 2);
+            
+            final var to    = (from + 1 + random.nextInt(STACKS - 1)) % STACKS;
+            final var count = 1 + random.nextInt(Math.min(stacks.get(from).size() - 1, 10 * scale));
+            
+            for (var i = 0; i < count; i++) {
+                stacks.get(to).push(stacks.get(from).pop());
+            }
+            
+            out.accept("move %d from %d to %d".formatted(count, from + 1, to + 1)); //NON-NLS
+        }
+    }
+    
+    // The stack is a deque with the top crate first, the level counts from the bottom.
+    private static char crateAt(final Deque<Character> stack, final int level) {
+        final var iterator = stack.descendingIterator();
+        for (var i = 0; i < level; i++) {
+            iterator.next();
+        }
+        return iterator.next();
+    }
+}
@@ -0,0 +1,27 @@
+package aoc.generators;
+
+import java.util.Random;
+import java.util.function.Consumer;
+
+/**
+ * Day 06: a single datastream line (4096 characters per scale).<br>
+ * Everything but the end uses only three different letters, so both the start-of-packet marker (4 different
+ * characters) and the start-of-message marker (14 different characters) can only be found at the very end and the
+ * whole stream has to be scanned in both parts.
+ */
+public final class Day06Generator implements Generator {
+    private static final String MARKER = "mnopqrstuvwxyz"; //NON-NLS
+    
+    @Override
+    public void generate(final int scale, final Random random, final Consumer<String> out) {
+        final var length = 4_096 * scale;
+        final var stream = new StringBuilder(length);
+        
+        while (stream.length() < length - MARKER.length()) {
+            stream.append((char) ('a' + random.nextInt(3)));
+        }
+        stream.append(MARKER);
+        
+        out.accept(stream.toString());
+    }
+}
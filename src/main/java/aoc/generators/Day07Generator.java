@@ -0,0 +1,99 @@
+package aoc.generators;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * Day 07: terminal output of browsing a random directory tree (200 directories per scale).<br>
+ * The file sizes are chosen so the whole disk uses about 48 MB at any scale, like the real input, so there is always
+ * a directory to delete and all sizes fit into an int.
+ */
+public final class Day07Generator implements Generator {
+    private static final long     TOTAL_SIZE = 48_000_000L;
+    private static final String[] EXTENSIONS = {"txt", "dat", "log", "bin"}; //NON-NLS
+    
+    @Override
+    public void generate(final int scale, final Random random, final Consumer<String> out) {
+        final var root        = new Directory("/");
+        final var directories = new ArrayList<Directory>();
+        
+        directories.add(root);
+        
+        for (var i = 1; i < 200 * scale; i++) {
+            final var parent = directories.get(random.nextInt(directories.size()));
+            final var child  = new Directory(uniqueName(parent.names, random, false));
+            
+            parent.directories.add(child);
+            directories.add(child);
+        }
+        
+        var fileCount = 0;
+        for (final var directory : directories) {
+            final var files = random.nextInt(7);
+            for (var i = 0; i < files; i++) {
+                directory.files.add(uniqueName(directory.names, random, true));
+            }
+            fileCount += files;
+        }
+        
+        final var maxFileSize = (int) (2 * TOTAL_SIZE / Math.max(1, fileCount));
+        
+        out.accept("$ cd /");
+        browse(root, maxFileSize, random, out);
+    }
+    
+    private static void browse(final Directory directory, final int maxFileSize, final Random random,
+                               final Consumer<String> out) {
+        final var entries = new ArrayList<String>();
+        
+        for (final var child : directory.directories) {
+            entries.add("dir %s".formatted(child.name)); //NON-NLS
+        }
+        for (final var file : directory.files) {
+            entries.add("%d %s".formatted(1 + random.nextInt(maxFileSize), file));
+        }
+        Collections.shuffle(entries, random);
+        
+        out.accept("$ ls");
+        entries.forEach(out);
+        
+        for (final var child : directory.directories) {
+            out.accept("$ cd %s".formatted(child.name));
+            browse(child, maxFileSize, random, out);
+            out.accept("$ cd ..");
+        }
+    }
+    
+    private static String uniqueName(final Set<String> names, final Random random, final boolean file) {
+        while (true) {
+            final var name   = new StringBuilder();
+            final var length = 1 + random.nextInt(8);
+            
+            for (var i = 0; i < length; i++) {
+                name.append((char) ('a' + random.nextInt(26)));
+            }
+            if (file && random.nextBoolean()) {
+                name.append('.').append(EXTENSIONS[random.nextInt(EXTENSIONS.length)]);
+            }
+            if (names.add(name.toString())) {
+                return name.toString();
+            }
+        }
+    }
+    
+    private static final class Directory {
+        private final String          name;
+        private final List<Directory> directories = new ArrayList<>();
+        private final List<String>    files       = new ArrayList<>();
+        private final Set<String>     names       = new HashSet<>();
+        
+        private Directory(final String name) {
+            this.name = name;
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package aoc.generators;
+
+import java.util.Random;
+import java.util.function.Consumer;
+
+/**
+ * Day 08: a square map of tree heights (99x99 at scale 1, the area grows linearly with the scale).
+ */
+public final class Day08Generator implements Generator {
+    @Override
+    public void generate(final int scale, final Random random, final Consumer<String> out) {
+        final var size = Generators.sqrtScaled(99, scale);
+        
+        for (var y = 0; y < size; y++) {
+            final var row = new StringBuilder(size);
+            for (var x = 0; x < size; x++) {
+                row.append((char) ('0' + random.nextInt(10)));
+            }
+            out.accept(row.toString());
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package aoc.generators;
+
+import java.util.Random;
+import java.util.function.Consumer;
+
+/**
+ * Day 09: head motions of the rope (2000 motions per scale).
+ */
+public final class Day09Generator implements Generator {
+    @Override
+    public void generate(final int scale, final Random random, final Consumer<String> out) {
+        final var motions = 2_000 * scale;
+        
+        for (var motion = 0; motion < motions; motion++) {
+            out.accept("%c %d".formatted("UDLR".charAt(random.nextInt(4)), 1 + random.nextInt(20))); //NON-NLS
+        }
+    }
+}
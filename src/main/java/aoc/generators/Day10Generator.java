@@ -0,0 +1,30 @@
+package aoc.generators;
+
+import java.util.Random;
+import java.util.function.Consumer;
+
+/**
+ * Day 10: a program of noop and addx instructions (146 instructions per scale, about 240 cycles).<br>
+ * The register is kept on the screen (0 to 39), so the CRT actually draws something.
+ */
+public final class Day10Generator implements Generator {
+    @Override
+    public void generate(final int scale, final Random random, final Consumer<String> out) {
+        final var instructions = 146 * scale;
+        var       x            = 1;
+        
+        for (var i = 0; i < instructions; i++) {
+            if (random.nextInt(3) == 0) {
+                out.accept("noop"); //NON-NLS
+                continue;
+            }
+            
+            final var min   = Math.max(-x, -15);
+            final var max   = Math.min(39 - x, 15);
+            final var value = min + random.nextInt(max - min + 1);
+            
+            x += value;
+            out.accept("addx %d".formatted(value)); //NON-NLS
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package aoc.generators;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+/**
+ * Day 11: eight monkeys with their items and rules (more starting items per scale).<br>
+ * The number of monkeys stays at eight, as the solution multiplies all divisors and squares worry levels modulo that
+ * product, so the divisors are the first eight primes (like the real input). Like there, one monkey squares, one or two
+ * multiply and the others add. Part 1 is simulated while generating and an input whose worry levels would overflow a
+ * long is drawn again.
+ */
+public final class Day11Generator implements Generator {
+    private static final int[] PRIMES = {2, 3, 5, 7, 11, 13, 17, 19};
+    
+    @Override
+    public void generate(final int scale, final Random random, final Consumer<String> out) {
+        List<Monkey> monkeys;
+        
+        do {
+            monkeys = createMonkeys(scale, random);
+        } while (!isPart1Safe(monkeys));
+        
+        for (var i = 0; i < monkeys.size(); i++) {
+            final var monkey = monkeys.get(i);
+            
+            if (i > 0) {
+                out.accept("");
+            }
+            out.accept("Monkey %d:".formatted(i)); //NON-NLS
+            out.accept("  Starting items: %s".formatted(monkey.items() //NON-NLS
+                                                              .stream()
+                                                              .map(String::valueOf)
+                                                              .collect(Collectors.joining(", "))));
+            out.accept("  Operation: new = old %s".formatted(monkey.operation())); //NON-NLS
+            out.accept("  Test: divisible by %d".formatted(monkey.test())); //NON-NLS
+            out.accept("    If true: throw to monkey %d".formatted(monkey.testTrue())); //NON-NLS
+            out.accept("    If false: throw to monkey %d".formatted(monkey.testFalse())); //NON-NLS
+        }
+    }
+    
+    private static List<Monkey> createMonkeys(final int scale, final Random random) {
+        final var count   = PRIMES.length;
+        final var tests   = Arrays.stream(PRIMES).boxed().collect(Collectors.toCollection(ArrayList::new));
+        final var monkeys = new ArrayList<Monkey>();
+        final var squares = random.nextInt(count);
+        final var times   = 1 + random.nextInt(2);
+        
+        Collections.shuffle(tests, random);
+        
+        for (var i = 0; i < count; i++) {
+            final var items = new ArrayList<Long>();
+            final var size  = 1 + random.nextInt(2 + 6 * scale);
+            
+            for (var item = 0; item < size; item++) {
+                items.add(50L + random.nextInt(50));
+            }
+            
+            final String operation;
+            if (i == squares) {
+                operation = "* old"; //NON-NLS
+            } else if ((i - squares + count) % count <= times) {
+                operation = "* %d".formatted(2 + random.nextInt(18));
+            } else {
+                operation = "+ %d".formatted(1 + random.nextInt(8));
+            }
+            
+            final var testTrue  = (i + 1 + random.nextInt(count - 1)) % count;
+            var       testFalse = (i + 1 + random.nextInt(count - 1)) % count;
+            if (testFalse == testTrue) {
+                testFalse = (testFalse + 1) % count == i ? (testFalse + 2) % count : (testFalse + 1) % count;
+            }
+            
+            monkeys.add(new Monkey(items, operation, tests.get(i), testTrue, testFalse));
+        }
+        
+        return monkeys;
+    }
+    
+    // Simulates the 20 rounds of part 1 (which has no modulo), any overflow means the input is not usable.
+    private static boolean isPart1Safe(final List<Monkey> monkeys) {
+        final var items = new ArrayList<List<Long>>();
+        for (final var monkey : monkeys) {
+            items.add(new ArrayList<>(monkey.items()));
+        }
+        
+        try {
+            for (var round = 0; round < 20; round++) {
+                for (var i = 0; i < monkeys.size(); i++) {
+                    final var monkey = monkeys.get(i);
+                    
+                    for (final var item : items.get(i)) {
+                        final var worry = apply(monkey.operation(), item) / 3;
+                        items.get(worry % monkey.test() == 0 ? monkey.testTrue() : monkey.testFalse()).add(worry);
+                    }
+                    items.get(i).clear();
+                }
+            }
+        } catch (final ArithmeticException e) {
+            return false;
+        }
+        
+        return true;
+    }
+    
+    private static long apply(final String operation, final long old) {
+        if (operation.equals("* old")) { //NON-NLS
+            return Math.multiplyExact(old, old);
+        }
+        
+        final var operand = Long.parseLong(operation.substring(2));
+        
+        return operation.charAt(0) == '*' ? Math.multiplyExact(old, operand) : Math.addExact(old, operand);
+    }
+    
+    private record Monkey(List<Long> items, String operation, int test, int testTrue, int testFalse) {}
+}
@@ -0,0 +1,43 @@
+package aoc.generators;
+
+import java.util.Random;
+import java.util.function.Consumer;
+
+/**
+ * Day 12: a heightmap with start and end (160x40 at scale 1, the area grows linearly with the scale).<br>
+ * The elevation rises from a at the left to z at the right edge, at most one step per column. Random cliffs are
+ * placed everywhere but on the row of the start, so the path along that row and then along the right edge to the end
+ * always exists.
+ */
+public final class Day12Generator implements Generator {
+    @Override
+    public void generate(final int scale, final Random random, final Consumer<String> out) {
+        final var width  = Math.max(26, Generators.sqrtScaled(160, scale));
+        final var height = Math.max(2, Generators.sqrtScaled(40, scale));
+        final var startY = random.nextInt(height);
+        final var endY   = random.nextInt(height);
+        
+        for (var y = 0; y < height; y++) {
+            final var row = new StringBuilder(width);
+            
+            for (var x = 0; x < width; x++) {
+                var elevation = x * 26 / width;
+                
+                if (y != startY && random.nextInt(7) == 0) {
+                    elevation = Math.min(25, elevation + 2 + random.nextInt(4));
+                }
+                
+                row.append((char) ('a' + elevation));
+            }
+            
+            if (y == startY) {
+                row.setCharAt(0, 'S');
+            }
+            if (y == endY) {
+                row.setCharAt(width - 1, 'E');
+            }
+            
+            out.accept(row.toString());
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package aoc.generators;
+
+import java.util.Random;
+import java.util.function.Consumer;
+
+/**
+ * Day 13: pairs of nested packets (150 pairs per scale). The divider packets themselves are never generated.
+ */
+public final class Day13Generator implements Generator {
+    @Override
+    public void generate(final int scale, final Random random, final Consumer<String> out) {
+        final var pairs = 150 * scale;
+        
+        for (var pair = 0; pair < pairs; pair++) {
+            if (pair > 0) {
+                out.accept("");
+            }
+            out.accept(packet(random));
+            out.accept(packet(random));
+        }
+    }
+    
+    private static String packet(final Random random) {
+        while (true) {
+            final var packet = new StringBuilder();
+            list(packet, 0, random);
+            
+            if (!packet.toString().equals("[[2]]") && !packet.toString().equals("[[6]]")) {
+                return packet.toString();
+            }
+        }
+    }
+    
+    private static void list(final StringBuilder packet, final int depth, final Random random) {
+        final var size = random.nextInt(6);
+        
+        packet.append('[');
+        for (var i = 0; i < size; i++) {
+            if (i > 0) {
+                packet.append(',');
+            }
+            if (depth < 4 && random.nextInt(3) == 0) {
+                list(packet, depth + 1, random);
+            } else {
+                packet.append(random.nextInt(11));
+            }
+        }
+        packet.append(']');
+    }
+}
@@ -0,0 +1,55 @@
+package aoc.generators;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Random;
+import java.util.function.Consumer;
+
+/**
+ * Day 14: rock paths below the sand source (the cave is 160 deep at scale 1, so the sand of part 2 grows linearly with
+ * the scale).<br>
+ * Right below the source is a wide cup, which holds the sand of part 1 until it overflows into the abyss. Further rocks
+ * are placed in narrow vertical bands next to it with empty columns in between, one shape per band. Sand piling up on
+ * such a shape rolls off into the empty columns next to it, so the overflow always finds the abyss.
+ */
+public final class Day14Generator implements Generator {
+    private static final int SOURCE = 500;
+    private static final int TOP    = 12;
+    
+    @Override
+    public void generate(final int scale, final Random random, final Consumer<String> out) {
+        final var depth = Generators.sqrtScaled(160, scale);
+        final var cup   = depth / 6;
+        final var bands = new ArrayList<int[]>();
+        
+        for (var x = SOURCE + cup + 3; x < SOURCE + depth; ) {
+            final var width = 3 + random.nextInt(7);
+            bands.add(new int[]{x, x + width - 1});
+            x += width + 2 + random.nextInt(5);
+        }
+        for (var x = SOURCE - cup - 3; x > SOURCE - depth; ) {
+            final var width = 3 + random.nextInt(7);
+            bands.add(new int[]{x - width + 1, x});
+            x -= width + 2 + random.nextInt(5);
+        }
+        Collections.shuffle(bands, random);
+        
+        out.accept("%d,%d -> %d,%d -> %d,%d -> %d,%d".formatted(SOURCE - cup, depth / 2 - cup, SOURCE - cup, depth / 2,
+                                                                SOURCE + cup, depth / 2, SOURCE + cup,
+                                                                depth / 2 - cup));
+        
+        for (final var band : bands) {
+            final var left   = band[0];
+            final var right  = band[1];
+            final var height = 1 + random.nextInt(5);
+            final var y      = TOP + random.nextInt(Math.max(1, depth - TOP - height));
+            
+            out.accept(switch (random.nextInt(3)) {
+                case 0 -> "%d,%d -> %d,%d".formatted(left, y, right, y);
+                case 1 -> "%d,%d -> %d,%d -> %d,%d -> %d,%d".formatted(left, y, left, y + height, right, y + height,
+                                                                       right, y);
+                default -> "%d,%d -> %d,%d -> %d,%d".formatted(left, y, left, y + height, right, y + height);
+            });
+        }
+    }
+}
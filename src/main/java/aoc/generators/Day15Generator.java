@@ -0,0 +1,107 @@
+package aoc.generators;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * Day 15: sensors with their closest beacons (about 60 sensors at scale 1, growing linearly with the scale).<br>
+ * Part 2 needs exactly one position in the 4000000 square which no sensor covers. The square is tiled by a lattice of
+ * sensor diamonds, the lattice sensors covering the hidden position are replaced by a frame of eight sensors which
+ * cover everything around it but the position itself. Then a few random sensors which do not cover it are added. All
+ * sensors stay within the bounds the solution expects for the row of part 1.
+ */
+public final class Day15Generator implements Generator {
+    private static final int SIZE = 4_000_000;
+    
+    @Override
+    public void generate(final int scale, final Random random, final Consumer<String> out) {
+        // The lattice size is 2 modulo 4, so no lattice sensor sits on row 2000000 at the edges of the square.
+        final var lattice = 4 * (int) Math.round((10 * Math.sqrt(scale) - 2) / 4.0) + 2;
+        final var radius  = (SIZE + lattice - 1) / lattice;
+        final var frame   = 2 * radius + 1;
+        
+        while (true) {
+            final var hidden = new int[]{
+                    2 * frame + random.nextInt(SIZE - 4 * frame),
+                    2 * frame + random.nextInt(SIZE - 4 * frame),
+            };
+            final var sensors = new ArrayList<int[]>();
+            
+            for (var i = 0; i <= lattice; i++) {
+                for (var j = i % 2; j <= lattice; j += 2) {
+                    final var x = i * radius;
+                    final var y = j * radius;
+                    
+                    if (distance(x, y, hidden[0], hidden[1]) > radius) {
+                        sensors.add(new int[]{x, y, x + (x + radius <= SIZE ? radius : -radius), y});
+                    }
+                }
+            }
+            
+            addFrame(sensors, hidden[0], hidden[1], frame, radius + 1);
+            
+            for (var i = 0; i < 10 * scale; i++) {
+                addRandomSensor(sensors, hidden[0], hidden[1], random);
+            }
+            
+            if (hasUniquePositions(sensors)) {
+                for (final var sensor : sensors) {
+                    out.accept("Sensor at x=%d, y=%d: closest beacon is at x=%d, y=%d".formatted( //NON-NLS
+                            sensor[0], sensor[1], sensor[2], sensor[3]));
+                }
+                return;
+            }
+        }
+    }
+    
+    // Four sensors on the axes cover everything but the diagonals through the hidden position, four sensors on the
+    // diagonals cover those. All of them have the hidden position just outside their range.
+    private static void addFrame(final List<int[]> sensors, final int x, final int y, final int axis,
+                                 final int diagonal) {
+        sensors.add(new int[]{x + axis, y, x + 1, y});
+        sensors.add(new int[]{x - axis, y, x - 1, y});
+        sensors.add(new int[]{x, y + axis, x, y + 1});
+        sensors.add(new int[]{x, y - axis, x, y - 1});
+        sensors.add(new int[]{x + diagonal, y + diagonal, x + 1, y});
+        sensors.add(new int[]{x - diagonal, y + diagonal, x - 1, y});
+        sensors.add(new int[]{x + diagonal, y - diagonal, x + 1, y});
+        sensors.add(new int[]{x - diagonal, y - diagonal, x - 1, y});
+    }
+    
+    private static void addRandomSensor(final List<int[]> sensors, final int hiddenX, final int hiddenY,
+                                        final Random random) {
+        final var x     = random.nextInt(SIZE + 1);
+        final var y     = random.nextInt(SIZE + 1);
+        final var range = Math.min(distance(x, y, hiddenX, hiddenY) - 1, Math.min(x, SIZE - x));
+        
+        if (range < 1) {
+            return;
+        }
+        
+        final var sensorRange = 1 + random.nextInt(range);
+        final var dx          = random.nextInt(2 * sensorRange + 1) - sensorRange;
+        final var dy          = (sensorRange - Math.abs(dx)) * (random.nextBoolean() ? 1 : -1);
+        
+        sensors.add(new int[]{x, y, x + dx, y + dy});
+    }
+    
+    private static boolean hasUniquePositions(final List<int[]> sensors) {
+        final Set<Long> positions = new HashSet<>();
+        
+        for (final var sensor : sensors) {
+            if (!positions.add(((long) sensor[0] << 32) | (sensor[1] & 0xFFFF_FFFFL))) {
+                return false;
+            }
+        }
+        
+        return true;
+    }
+    
+    private static int distance(final int x1, final int y1, final int x2, final int y2) {
+        return Math.abs(x1 - x2) + Math.abs(y1 - y2);
+    }
+}
@@ -0,0 +1,90 @@
+package aoc.generators;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.TreeSet;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+/**
+ * Day 16: valves and the tunnels between them (60 valves per scale, up to all 676 two letter names).<br>
+ * Only a few valves have a flow rate, as the solution searches over all orders of them. Their number grows slowly with
+ * the scale (one more per doubling, up to 15 like the real input), so larger scales mainly grow the tunnel network.
+ */
+public final class Day16Generator implements Generator {
+    private static final String START = "AA"; //NON-NLS
+    
+    @Override
+    public void generate(final int scale, final Random random, final Consumer<String> out) {
+        final var count       = Math.min(26 * 26, 60 * scale);
+        final var interesting = Math.min(15, 8 + 31 - Integer.numberOfLeadingZeros(scale));
+        final var names       = createNames(count, random);
+        final var flowRates   = new int[count];
+        final var tunnels     = new ArrayList<TreeSet<Integer>>();
+        
+        for (var i = 0; i < count; i++) {
+            tunnels.add(new TreeSet<>());
+        }
+        
+        // Valve 0 is the start, which never has a flow rate.
+        for (var i = 1; i <= interesting; i++) {
+            flowRates[i] = 3 + random.nextInt(23);
+        }
+        
+        // A random spanning tree of mostly short corridors keeps all valves reachable, a few extra tunnels add cycles.
+        for (var i = 1; i < count; i++) {
+            connect(tunnels, i, i - 1 - random.nextInt(Math.min(i, 5)));
+        }
+        for (var i = 0; i < count / 4; i++) {
+            final var from = random.nextInt(count);
+            final var to   = random.nextInt(count);
+            
+            if (from != to) {
+                connect(tunnels, from, to);
+            }
+        }
+        
+        final var order = new ArrayList<Integer>();
+        for (var i = 0; i < count; i++) {
+            order.add(i);
+        }
+        Collections.shuffle(order, random);
+        
+        for (final var valve : order) {
+            final var neighbours = tunnels.get(valve);
+            final var targets    = neighbours.stream().map(names::get).collect(Collectors.joining(", "));
+            
+            out.accept(neighbours.size() == 1
+                               ? "Valve %s has flow rate=%d; tunnel leads to valve %s" //NON-NLS
+                                       .formatted(names.get(valve), flowRates[valve], targets)
+                               : "Valve %s has flow rate=%d; tunnels lead to valves %s" //NON-NLS
+                                       .formatted(names.get(valve), flowRates[valve], targets));
+        }
+    }
+    
+    private static List<String> createNames(final int count, final Random random) {
+        final var names = new ArrayList<String>();
+        
+        for (var first = 'A'; first <= 'Z'; first++) {
+            for (var second = 'A'; second <= 'Z'; second++) {
+                final var name = "%c%c".formatted(first, second);
+                
+                if (!name.equals(START)) {
+                    names.add(name);
+                }
+            }
+        }
+        Collections.shuffle(names, random);
+        
+        final var result = new ArrayList<String>(names.subList(0, count - 1));
+        result.add(0, START);
+        return result;
+    }
+    
+    private static void connect(final List<TreeSet<Integer>> tunnels, final int from, final int to) {
+        tunnels.get(from).add(to);
+        tunnels.get(to).add(from);
+    }
+}
@@ -0,0 +1,20 @@
+package aoc.generators;
+
+import java.util.Random;
+import java.util.function.Consumer;
+
+/**
+ * Day 17: a single line of jet directions (10000 jets per scale).
+ */
+public final class Day17Generator implements Generator {
+    @Override
+    public void generate(final int scale, final Random random, final Consumer<String> out) {
+        final var jets = new StringBuilder(10_000 * scale);
+        
+        for (var i = 0; i < 10_000 * scale; i++) {
+            jets.append(random.nextBoolean() ? '<' : '>');
+        }
+        
+        out.accept(jets.toString());
+    }
+}
@@ -0,0 +1,35 @@
+package aoc.generators;
+
+import java.util.Random;
+import java.util.function.Consumer;
+
+/**
+ * Day 18: lava cubes in a cube of side 20 at scale 1 (the volume grows linearly with the scale), about a third of the
+ * positions is filled, which also leaves some air trapped inside for part 2.
+ */
+public final class Day18Generator implements Generator {
+    @Override
+    public void generate(final int scale, final Random random, final Consumer<String> out) {
+        final var side  = (int) Math.round(20 * Math.cbrt(scale));
+        final var total = side * side * side;
+        var       left  = (int) (0.35 * total);
+        
+        // Selection sampling picks the cubes without duplicates, afterwards their order is shuffled.
+        final var cubes = new int[left];
+        for (var i = 0; i < total && left > 0; i++) {
+            if (random.nextInt(total - i) < left) {
+                cubes[--left] = i;
+            }
+        }
+        for (var i = cubes.length - 1; i > 0; i--) {
+            final var j    = random.nextInt(i + 1);
+            final var cube = cubes[i];
+            cubes[i] = cubes[j];
+            cubes[j] = cube;
+        }
+        
+        for (final var cube : cubes) {
+            out.accept("%d,%d,%d".formatted(cube % side, cube / side % side, cube / side / side));
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package aoc.generators;
+
+import java.util.Random;
+import java.util.function.Consumer;
+
+/**
+ * Day 19: robot blueprints (30 per scale) with costs in the same ranges as the real input.
+ */
+public final class Day19Generator implements Generator {
+    @Override
+    public void generate(final int scale, final Random random, final Consumer<String> out) {
+        for (var id = 1; id <= 30 * scale; id++) {
+            out.accept(("Blueprint %d: Each ore robot costs %d ore. Each clay robot costs %d ore. " + //NON-NLS
+                        "Each obsidian robot costs %d ore and %d clay. " + //NON-NLS
+                        "Each geode robot costs %d ore and %d obsidian.") //NON-NLS
+                               .formatted(id, 2 + random.nextInt(3), 2 + random.nextInt(3),
+                                          2 + random.nextInt(3), 5 + random.nextInt(16),
+                                          2 + random.nextInt(3), 7 + random.nextInt(14)));
+        }
+    }
+}
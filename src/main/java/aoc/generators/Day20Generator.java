@@ -0,0 +1,28 @@
+package aoc.generators;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Random;
+import java.util.function.Consumer;
+
+/**
+ * Day 20: the encrypted numbers (5000 per scale), all between -10000 and 10000 and exactly one of them zero.
+ */
+public final class Day20Generator implements Generator {
+    @Override
+    public void generate(final int scale, final Random random, final Consumer<String> out) {
+        final var numbers = new ArrayList<Integer>();
+        
+        numbers.add(0);
+        while (numbers.size() < 5000 * scale) {
+            final var number = random.nextInt(20_001) - 10_000;
+            
+            if (number != 0) {
+                numbers.add(number);
+            }
+        }
+        Collections.shuffle(numbers, random);
+        
+        numbers.forEach(number -> out.accept(String.valueOf(number)));
+    }
+}
@@ -0,0 +1,165 @@
+package aoc.generators;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * Day 21: the monkeys and their jobs (about 2000 monkeys per scale).<br>
+ * Like the real input, the jobs form a tree where {@code humn} sits at the end of one path from {@code root}. All
+ * monkeys next to that path are built bottom up, so every intermediate value is known and stays well within a long.
+ * The path itself is built top down from the value {@code root} has to match, choosing only operations which can be
+ * reversed exactly, so part 2 has an integer solution. {@code humn} never is a divisor.
+ */
+public final class Day21Generator implements Generator {
+    private static final long   LIMIT = 1_000_000_000_000L;
+    private static final String ROOT  = "root"; //NON-NLS
+    //noinspection SpellCheckingInspection
+    private static final String HUMAN = "humn"; //NON-NLS
+    
+    @Override
+    public void generate(final int scale, final Random random, final Consumer<String> out) {
+        final var jobs = new ArrayList<String>();
+        
+        // Like the real input, the number humn has to shout in part 2 is positive.
+        do {
+            jobs.clear();
+        } while (createJobs(scale, random, jobs) <= 0);
+        
+        // humn shouts some unrelated small number in part 1.
+        jobs.add("%s: %d".formatted(HUMAN, 1 + random.nextInt(1000)));
+        Collections.shuffle(jobs, random);
+        
+        jobs.forEach(out);
+    }
+    
+    /**
+     * Creates the jobs of all monkeys but humn.
+     *
+     * @return Number humn has to shout to pass the equality test of root
+     */
+    private static long createJobs(final int scale, final Random random, final List<? super String> jobs) {
+        final var names   = new HashSet<>(Set.of(ROOT, HUMAN));
+        final var path    = 60 + random.nextInt(20);
+        final var subtree = Math.max(1, (2000 * scale / (path + 1) - 1) | 1);
+        
+        // The side of root which does not depend on humn is the target of part 2.
+        final var other = new Subtree(subtree, names, jobs, random);
+        var       name  = uniqueName(names, random);
+        var       value = other.value;
+        
+        jobs.add("%s: %s + %s".formatted(ROOT, name, other.name));
+        
+        for (var step = 0; step < path; step++) {
+            final var sibling = new Subtree(subtree, names, jobs, random);
+            final var child   = step == path - 1 ? HUMAN : uniqueName(names, random);
+            final var s       = sibling.value;
+            final var options = new ArrayList<String>();
+            
+            // Of adding and subtracting the sibling, one always keeps the child in range.
+            if (Math.abs(value - s) <= LIMIT) {
+                options.add("+");
+            }
+            if (Math.abs(value + s) <= LIMIT) {
+                options.add("-L");
+            }
+            if (Math.abs(s - value) <= LIMIT) {
+                options.add("-R");
+            }
+            if (s != 0 && value % s == 0) {
+                options.add("*");
+            }
+            if (s != 0 && Math.abs(value) <= LIMIT / Math.abs(s)) {
+                options.add("/");
+            }
+            
+            // Chooses the operation and computes the value the child must have.
+            final var option = options.get(random.nextInt(options.size()));
+            final var result = switch (option) {
+                case "+" -> value - s;
+                case "-L" -> value + s;
+                case "-R" -> s - value;
+                case "*" -> value / s;
+                default -> value * s;
+            };
+            
+            final String job = switch (option) {
+                case "-L" -> "%s: %s - %s".formatted(name, child, sibling.name);
+                case "-R" -> "%s: %s - %s".formatted(name, sibling.name, child);
+                case "/" -> "%s: %s / %s".formatted(name, child, sibling.name);
+                default -> random.nextBoolean()
+                           ? "%s: %s %s %s".formatted(name, child, option, sibling.name)
+                           : "%s: %s %s %s".formatted(name, sibling.name, option, child);
+            };
+            jobs.add(job);
+            name = child;
+            value = result;
+        }
+        
+        return value;
+    }
+    
+    private static String uniqueName(final Set<? super String> names, final Random random) {
+        while (true) {
+            final var name = new StringBuilder();
+            for (var i = 0; i < 4; i++) {
+                name.append((char) ('a' + random.nextInt(26)));
+            }
+            if (names.add(name.toString())) {
+                return name.toString();
+            }
+        }
+    }
+    
+    /**
+     * A tree of monkeys which does not depend on humn, built bottom up so its value is known.
+     */
+    private static final class Subtree {
+        private final String name;
+        private final long   value;
+        
+        private Subtree(final int size, final Set<? super String> names, final List<? super String> jobs,
+                        final Random random) {
+            name = uniqueName(names, random);
+            
+            if (size <= 1) {
+                value = 1 + random.nextInt(20);
+                jobs.add("%s: %d".formatted(name, value));
+                return;
+            }
+            
+            final var leftSize = 1 + 2 * random.nextInt((size - 1) / 2);
+            final var left     = new Subtree(leftSize, names, jobs, random);
+            final var right    = new Subtree(size - 1 - leftSize, names, jobs, random);
+            final var options  = new ArrayList<String>();
+            
+            // Adding or subtracting two values of the same sign always stays in range, so one of both is possible.
+            if (Math.abs(left.value + right.value) <= LIMIT) {
+                options.add("+");
+            }
+            if (Math.abs(left.value - right.value) <= LIMIT) {
+                options.add("-");
+            }
+            if (left.value == 0 || right.value == 0 || Math.abs(left.value) <= LIMIT / Math.abs(right.value)) {
+                options.add("*");
+            }
+            if (right.value != 0 && left.value % right.value == 0) {
+                options.add("/");
+            }
+            
+            final var operation = options.get(random.nextInt(options.size()));
+            
+            value = switch (operation) {
+                case "+" -> left.value + right.value;
+                case "-" -> left.value - right.value;
+                case "*" -> left.value * right.value;
+                default -> left.value / right.value;
+            };
+            jobs.add("%s: %s %s %s".formatted(name, left.name, operation, right.name));
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package aoc.generators;
+
+import java.util.Random;
+import java.util.function.Consumer;
+
+/**
+ * Day 22: the board and the path description (2000 moves per scale).<br>
+ * The board keeps the layout of the real input (six faces of size 50), as part 2 folds exactly that net into a cube.
+ * Only the walls on it and the length of the path are random.
+ */
+public final class Day22Generator implements Generator {
+    private static final int   FACE   = 50;
+    // Columns covered by the board for each band of 50 rows.
+    private static final int[] STARTS = {50, 50, 0, 0};
+    private static final int[] ENDS   = {150, 100, 100, 50};
+    
+    @Override
+    public void generate(final int scale, final Random random, final Consumer<String> out) {
+        for (var y = 0; y < 4 * FACE; y++) {
+            final var band = y / FACE;
+            final var row  = new StringBuilder(" ".repeat(STARTS[band]));
+            
+            for (var x = STARTS[band]; x < ENDS[band]; x++) {
+                // The start is the leftmost tile of the top row, so it must be open.
+                row.append(y > 0 && random.nextInt(10) == 0 ? '#' : '.');
+            }
+            out.accept(row.toString());
+        }
+        out.accept("");
+        
+        final var path = new StringBuilder();
+        for (var i = 0; i < 2000 * scale; i++) {
+            if (i > 0) {
+                path.append(random.nextBoolean() ? 'L' : 'R');
+            }
+            path.append(1 + random.nextInt(50));
+        }
+        out.accept(path.toString());
+    }
+}
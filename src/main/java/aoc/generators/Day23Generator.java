@@ -0,0 +1,24 @@
+package aoc.generators;
+
+import java.util.Random;
+import java.util.function.Consumer;
+
+/**
+ * Day 23: the scan of the elves (a 72 by 72 square at scale 1, the area grows linearly with the scale), about half of
+ * the positions is an elf.
+ */
+public final class Day23Generator implements Generator {
+    @Override
+    public void generate(final int scale, final Random random, final Consumer<String> out) {
+        final var side = Generators.sqrtScaled(72, scale);
+        
+        for (var y = 0; y < side; y++) {
+            final var row = new StringBuilder(side);
+            
+            for (var x = 0; x < side; x++) {
+                row.append(random.nextBoolean() ? '#' : '.');
+            }
+            out.accept(row.toString());
+        }
+    }
+}
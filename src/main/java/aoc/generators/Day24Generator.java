@@ -0,0 +1,39 @@
+package aoc.generators;
+
+import java.util.Random;
+import java.util.function.Consumer;
+
+/**
+ * Day 24: the valley with its blizzards (120 by 25 inside the walls at scale 1, the area grows linearly with the
+ * scale).<br>
+ * Like the real input, no blizzard moves up or down in the columns of the entrance and the exit, as it would leave the
+ * valley there.
+ */
+public final class Day24Generator implements Generator {
+    private static final char[] BLIZZARDS = {'<', '>', '^', 'v'};
+    
+    @Override
+    public void generate(final int scale, final Random random, final Consumer<String> out) {
+        final var width  = Generators.sqrtScaled(120, scale);
+        final var height = Generators.sqrtScaled(25, scale);
+        
+        out.accept("#." + "#".repeat(width));
+        
+        for (var y = 0; y < height; y++) {
+            final var row = new StringBuilder(width + 2).append('#');
+            
+            for (var x = 0; x < width; x++) {
+                if (random.nextInt(100) >= 35) {
+                    row.append('.');
+                } else if (x == 0 || x == width - 1) {
+                    row.append(BLIZZARDS[random.nextInt(2)]);
+                } else {
+                    row.append(BLIZZARDS[random.nextInt(BLIZZARDS.length)]);
+                }
+            }
+            out.accept(row.append('#').toString());
+        }
+        
+        out.accept("#".repeat(width) + ".#");
+    }
+}
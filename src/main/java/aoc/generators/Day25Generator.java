@@ -0,0 +1,32 @@
+package aoc.generators;
+
+import java.util.Random;
+import java.util.function.Consumer;
+
+/**
+ * Day 25: fuel requirements as SNAFU numbers (120 per scale) of up to about 10<sup>12</sup>.
+ */
+public final class Day25Generator implements Generator {
+    private static final char[] DIGITS = {'0', '1', '2', '=', '-'};
+    
+    @Override
+    public void generate(final int scale, final Random random, final Consumer<String> out) {
+        for (var i = 0; i < 120 * scale; i++) {
+            // A uniform number of digits, so short and long numbers are both common like in the real input.
+            final var digits = 1 + random.nextInt(18);
+            final var bound  = (long) Math.pow(5, digits);
+            
+            out.accept(toSnafu(1 + (long) (random.nextDouble() * (bound - 1))));
+        }
+    }
+    
+    private static String toSnafu(final long value) {
+        final var snafu = new StringBuilder();
+        
+        for (var rest = value; rest > 0; rest = (rest + 2) / 5) {
+            snafu.append(DIGITS[(int) (rest % 5)]);
+        }
+        
+        return snafu.reverse().toString();
+    }
+}
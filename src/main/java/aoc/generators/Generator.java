@@ -0,0 +1,78 @@
+package aoc.generators;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Consumer;
+
+/**
+ * Generates a valid puzzle input for a day.<br>
+ * A scale of 1 is roughly the size of the real puzzle input, larger scales grow the input about linearly (more lines,
+ * larger grids, longer patterns). The same scale and seed always produce the same input, so benchmarks on generated
+ * inputs are reproducible.
+ */
+@FunctionalInterface
+public interface Generator {
+    /**
+     * Generates the input line by line.
+     *
+     * @param scale  Scale factor, 1 is about the size of the real input
+     * @param random Source of randomness, seeded by the caller
+     * @param out    Receives the lines in order
+     */
+    void generate(final int scale, final Random random, final Consumer<String> out);
+    
+    /**
+     * Generates the input as list of lines.
+     *
+     * @param scale Scale factor, 1 is about the size of the real input
+     * @param seed  Seed for the randomness
+     * @return Input lines
+     */
+    default List<String> generate(final int scale, final long seed) {
+        final var lines = new ArrayList<String>();
+        generate(checkScale(scale), new Random(seed), lines::add);
+        return lines;
+    }
+    
+    /**
+     * Generates the input directly into a file, without keeping the lines in memory.
+     *
+     * @param path  Path of the file to write
+     * @param scale Scale factor, 1 is about the size of the real input
+     * @param seed  Seed for the randomness
+     * @throws IOException If an I/O error occurs
+     */
+    default void write(final Path path, final int scale, final long seed) throws IOException {
+        try (final var writer = Files.newBufferedWriter(path, StandardCharsets.US_ASCII)) {
+            final var error = new IOException[1];
+            
+            generate(checkScale(scale), new Random(seed), line -> {
+                if (error[0] != null) {
+                    return;
+                }
+                try {
+                    writer.write(line);
+                    writer.newLine();
+                } catch (final IOException e) {
+                    error[0] = e;
+                }
+            });
+            
+            if (error[0] != null) {
+                throw error[0];
+            }
+        }
+    }
+    
+    private static int checkScale(final int scale) {
+        if (scale < 1) {
+            throw new IllegalArgumentException("Scale must be at least 1: %d".formatted(scale));
+        }
+        return scale;
+    }
+}
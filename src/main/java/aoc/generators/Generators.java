@@ -0,0 +1,80 @@
+package aoc.generators;
+
+import java.util.Collections;
+import java.util.NavigableMap;
+import java.util.NavigableSet;
+import java.util.TreeMap;
+
+/**
+ * Registry of the input generators, one per day.
+ */
+public final class Generators {
+    private static final NavigableMap<Integer, Generator> GENERATORS = new TreeMap<>();
+    
+    static {
+        GENERATORS.put(1, new Day01Generator());
+        GENERATORS.put(2, new Day02Generator());
+        GENERATORS.put(3, new Day03Generator());
+        GENERATORS.put(4, new Day04Generator());
+        GENERATORS.put(5, new Day05Generator());
+        GENERATORS.put(6, new Day06Generator());
+        GENERATORS.put(7, new Day07Generator());
+        GENERATORS.put(8, new Day08Generator());
+        GENERATORS.put(9, new Day09Generator());
+        GENERATORS.put(10, new Day10Generator());
+        GENERATORS.put(11, new Day11Generator());
+        GENERATORS.put(12, new Day12Generator());
+        GENERATORS.put(13, new Day13Generator());
+        GENERATORS.put(14, new Day14Generator());
+        GENERATORS.put(15, new Day15Generator());
+        GENERATORS.put(16, new Day16Generator());
+        GENERATORS.put(17, new Day17Generator());
+        GENERATORS.put(18, new Day18Generator());
+        GENERATORS.put(19, new Day19Generator());
+        GENERATORS.put(20, new Day20Generator());
+        GENERATORS.put(21, new Day21Generator());
+        GENERATORS.put(22, new Day22Generator());
+        GENERATORS.put(23, new Day23Generator());
+        GENERATORS.put(24, new Day24Generator());
+        GENERATORS.put(25, new Day25Generator());
+    }
+    
+    private Generators() {}
+    
+    /**
+     * Gets the generator of a day.
+     *
+     * @param day Day number (1-25)
+     * @return Generator of the day
+     */
+    public static Generator get(final int day) {
+        final var generator = GENERATORS.get(day);
+        
+        if (generator == null) {
+            throw new IllegalArgumentException("No generator for day %d".formatted(day));
+        }
+        
+        return generator;
+    }
+    
+    /**
+     * Gets all days with a generator.
+     *
+     * @return Day numbers in ascending order
+     */
+    public static NavigableSet<Integer> days() {
+        return Collections.unmodifiableNavigableSet(GENERATORS.navigableKeySet());
+    }
+    
+    /**
+     * Scales a length which grows with the square root of the scale (e.g. the side of a grid, whose area then grows
+     * linearly with the scale).
+     *
+     * @param base  Length at scale 1
+     * @param scale Scale factor
+     * @return Scaled length
+     */
+    static int sqrtScaled(final int base, final int scale) {
+        return (int) Math.round(base * Math.sqrt(scale));
+    }
+}
@@ -0,0 +1,100 @@
+package aoc;
+
+import aoc.common.ParsedDay;
+import aoc.days.Day01;
+import aoc.days.Day02;
+import aoc.days.Day12;
+import aoc.days.Day16;
+import aoc.days.Day19;
+import aoc.days.Day24;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.Objects;
+
+import static org.testng.Assert.*;
+
+public class AnswerCacheTest {
+    @Test
+    public void testPutGetClear() throws IOException {
+        final var directory = Files.createTempDirectory("answers");
+        final var input     = Files.writeString(directory.resolve("input.txt"), "1\n2\n\n3\n");
+        final var cache     = new AnswerCache(directory.resolve("cache"));
+        final var key       = cache.key(1, new Day01(), input);
+        
+        assertNull(cache.get(key, 1));
+        
+        cache.put(key, 1, 3L);
+        cache.put(key, 2, "multi\nline");
+        
+        assertEquals(cache.get(key, 1), "3");
+        assertEquals(cache.get(key, 2), "multi\nline");
+        
+        cache.clear();
+        
+        assertNull(cache.get(key, 1));
+    }
+    
+    @Test
+    public void testKeyChanges() throws IOException {
+        final var directory = Files.createTempDirectory("answers");
+        final var input     = Files.writeString(directory.resolve("input.txt"), "1\n2\n");
+        final var cache     = new AnswerCache(directory);
+        final var key       = cache.key(1, new Day01(), input);
+        
+        assertEquals(cache.key(1, new Day01(), input), key);
+        assertNotEquals(cache.key(1, new Day02(), input), key, "Other day class");
+        
+        Files.writeString(input, "1\n3\n");
+        
+        assertNotEquals(cache.key(1, new Day01(), input), key, "Other input");
+    }
+    
+    @Test
+    public void testModels() throws IOException {
+        final var directory = Files.createTempDirectory("models");
+        final var cache     = new AnswerCache(directory, false);
+        
+        assertModel(cache, new Day12(), 12);
+        assertModel(cache, new Day16(), 16);
+        assertModel(cache, new Day19(), 19);
+        assertModel(cache, new Day24(), 24);
+        
+        cache.put("answer", 1, 42);
+        
+        assertNull(cache.get("answer", 1), "Answers disabled");
+    }
+    
+    @Test
+    public void testBrokenModel() throws IOException {
+        final var directory = Files.createTempDirectory("models");
+        final var cache     = new AnswerCache(directory);
+        final var codec     = Objects.requireNonNull(new Day24().codec());
+        final var file      = Files.write(directory.resolve("broken.model"), new byte[] {0, 0, 0, 7});
+        
+        assertNull(cache.getModel("broken", codec));
+        assertFalse(Files.exists(file), "Broken model deleted");
+    }
+    
+    private static <T> void assertModel(final AnswerCache cache, final ParsedDay<T> day, final int number)
+            throws IOException {
+        final var input = Paths.get("resources", "day%02d.test.txt".formatted(number));
+        final var codec = Objects.requireNonNull(day.codec());
+        final var key   = cache.key(number, day, input);
+        final var model = day.parse(Files.readAllLines(input));
+        
+        assertNull(cache.getModel(key, codec));
+        
+        cache.putModel(key, codec, model);
+        
+        final var loaded   = Objects.requireNonNull(cache.getModel(key, codec));
+        final var expected = day.prepareModel(model);
+        final var actual   = day.prepareModel(loaded);
+        
+        assertEquals(List.of(actual.part1(), actual.part2()), List.of(expected.part1(), expected.part2()),
+                     "Day %d".formatted(number));
+    }
+}
@@ -0,0 +1,47 @@
+package aoc;
+
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.time.Duration;
+
+import static org.testng.Assert.*;
+
+public class SamplingProfilerTest {
+    @Test
+    public void testCollapsedStacks() throws IOException {
+        final var profiler = new SamplingProfiler(Thread.currentThread(), Duration.ofMillis(1L));
+        final var end      = System.nanoTime() + Duration.ofMillis(300L).toNanos();
+        var       sum      = 0L;
+        
+        while (System.nanoTime() < end) {
+            sum += busy(sum);
+        }
+        profiler.close();
+        
+        final var file = Files.createTempFile("profile", ".collapsed");
+        try {
+            profiler.write(file);
+            
+            final var lines = Files.readAllLines(file);
+            final var count = lines.stream()
+                                   .mapToInt(line -> Integer.parseInt(line.substring(line.lastIndexOf(' ') + 1)))
+                                   .sum();
+            
+            assertTrue(profiler.getSampleCount() > 0, "No samples taken (%d)".formatted(sum));
+            assertEquals(count, profiler.getSampleCount());
+            assertTrue(lines.stream().allMatch(line -> line.contains("SamplingProfilerTest.testCollapsedStacks")));
+        } finally {
+            Files.delete(file);
+        }
+    }
+    
+    private static long busy(final long seed) {
+        var value = seed;
+        for (var i = 0; i < 1000; i++) {
+            value = value * 31 + i;
+        }
+        return value & 1;
+    }
+}
@@ -0,0 +1,34 @@
+package aoc;
+
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.time.Duration;
+
+import static org.testng.Assert.*;
+
+public class ScalingHarnessTest {
+    @Test
+    public void testExponent() {
+        final var scales = new int[] {1, 2, 4, 8, 16};
+        
+        assertEquals(ScalingHarness.exponent(scales, new long[] {100, 200, 400, 800, 1600}), 1.0, 1e-9, "Linear");
+        assertEquals(ScalingHarness.exponent(scales, new long[] {100, 400, 1600, 6400, 25600}), 2.0, 1e-9,
+                     "Quadratic");
+        assertEquals(ScalingHarness.exponent(scales, new long[] {7, 7, 7, 7, 7}), 0.0, 1e-9, "Constant");
+        assertEquals(ScalingHarness.exponent(scales, new long[] {90, 210, 390, 810, 1590}), 1.0, 0.05, "Noisy");
+        assertTrue(Double.isNaN(ScalingHarness.exponent(new int[] {4}, new long[] {10})), "Single scale");
+    }
+    
+    @Test
+    public void testMeasure() throws IOException {
+        final var curves = new ScalingHarness(4, 1, 2022L, Duration.ofSeconds(10L)).measure(1);
+        
+        assertEquals(curves.size(), 2);
+        
+        for (final var curve : curves) {
+            assertEquals(curve.points().stream().mapToInt(ScalingHarness.Point::scale).toArray(), new int[] {1, 2, 4});
+            assertFalse(Double.isNaN(curve.allocationExponent()), "Part %d".formatted(curve.part()));
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package aoc;
+
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Paths;
+import java.time.Duration;
+
+import static org.testng.Assert.*;
+
+public class SolverServerTest {
+    private SolverServer server;
+    private HttpClient   client;
+    
+    @BeforeClass
+    public void startServer() throws IOException {
+        server = new SolverServer(0, 2);
+        server.start();
+        client = HttpClient.newHttpClient();
+    }
+    
+    @AfterClass
+    public void stopServer() {
+        server.stop();
+    }
+    
+    @Test
+    public void testSolve() throws IOException, InterruptedException {
+        final var response = post("/day/1/part/2", HttpRequest.BodyPublishers.ofFile(Paths.get("resources",
+                                                                                                 "day01.test.txt")));
+        
+        assertEquals(response.statusCode(), 200);
+        assertEquals(response.body(), "45000");
+        assertTrue(response.headers().firstValue("X-Wall-Nanos").isPresent());
+        assertTrue(response.headers().firstValue("X-Allocated-Bytes").isPresent());
+    }
+    
+    @Test
+    public void testErrors() throws IOException, InterruptedException {
+        assertEquals(post("/day/26/part/1", HttpRequest.BodyPublishers.ofString("")).statusCode(), 404);
+        assertEquals(post("/day/1/part/3", HttpRequest.BodyPublishers.ofString("")).statusCode(), 404);
+        
+        final var get = HttpRequest.newBuilder(uri("/day/1/part/1")).GET().build();
+        assertEquals(client.send(get, HttpResponse.BodyHandlers.ofString()).statusCode(), 405);
+    }
+    
+    @Test
+    public void testTimeout() throws IOException, InterruptedException {
+        final var limited = new SolverServer(0, 1, Duration.ZERO);
+        
+        limited.start();
+        try {
+            final var request = HttpRequest.newBuilder(URI.create(
+                    "http://localhost:%d/day/23/part/2".formatted(limited.getPort()))).POST(
+                    HttpRequest.BodyPublishers.ofFile(Paths.get("resources", "day23.test.txt"))).build();
+            final var response = client.send(request, HttpResponse.BodyHandlers.ofString());
+            
+            assertEquals(response.statusCode(), 503);
+            assertTrue(response.body().startsWith("SolveCancelledException"), response.body());
+        } finally {
+            limited.stop();
+        }
+    }
+    
+    private HttpResponse<String> post(final String path, final HttpRequest.BodyPublisher body)
+            throws IOException, InterruptedException {
+        final var request = HttpRequest.newBuilder(uri(path)).POST(body).build();
+        return client.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+    
+    private URI uri(final String path) {
+        return URI.create("http://localhost:%d%s".formatted(server.getPort(), path));
+    }
+}
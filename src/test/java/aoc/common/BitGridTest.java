@@ -0,0 +1,87 @@
+package aoc.common;
+
+import org.testng.annotations.Test;
+
+import java.util.Random;
+
+import static org.testng.Assert.*;
+
+public class BitGridTest {
+    @Test
+    public void testSetGetCount() {
+        final var grid = new BitGrid(130, 3);
+        
+        grid.set(0, 0);
+        grid.set(64, 1);
+        grid.set(129, 2);
+        grid.set(129, 2);
+        
+        assertTrue(grid.get(64, 1));
+        assertFalse(grid.get(63, 1));
+        assertEquals(grid.cardinality(), 3);
+        assertEquals(grid.cardinality(2), 1);
+        
+        grid.clear(64, 1);
+        assertEquals(grid.cardinality(), 2);
+    }
+    
+    @Test
+    public void testShiftAndRotateMatchCells() {
+        final var random = new Random(7);
+        
+        // Widths around the word size, so the carry between words and the last word mask are covered.
+        for (final var width : new int[]{1, 5, 63, 64, 65, 130}) {
+            final var grid = new BitGrid(width, 4);
+            for (var i = 0; i < width; i++) {
+                grid.set(random.nextInt(width), random.nextInt(4));
+            }
+            
+            for (final var dx : new int[]{-65, -1, 0, 1, 3, 64}) {
+                for (final var dy : new int[]{-1, 0, 2}) {
+                    final var shifted = new BitGrid(width, 4);
+                    final var rotated = new BitGrid(width, 4);
+                    shifted.orShifted(grid, dx, dy);
+                    rotated.rotateFrom(grid, dx, dy);
+                    
+                    for (var y = 0; y < 4; y++) {
+                        for (var x = 0; x < width; x++) {
+                            final var inside   = x - dx >= 0 && x - dx < width && y - dy >= 0 && y - dy < 4;
+                            final var rotatedX = Math.floorMod(x - dx, width);
+                            final var rotatedY = Math.floorMod(y - dy, 4);
+                            
+                            assertEquals(shifted.get(x, y), inside && grid.get(x - dx, y - dy),
+                                         "shift %d (%d, %d) at %d, %d".formatted(width, dx, dy, x, y));
+                            assertEquals(rotated.get(x, y), grid.get(rotatedX, rotatedY),
+                                         "rotate %d (%d, %d) at %d, %d".formatted(width, dx, dy, x, y));
+                        }
+                    }
+                    assertEquals(rotated.cardinality(), grid.cardinality());
+                }
+            }
+        }
+    }
+    
+    @Test
+    public void testNeighboursAndLogic() {
+        final var grid       = new BitGrid(70, 3);
+        final var neighbours = new BitGrid(70, 3);
+        
+        grid.set(63, 1);
+        neighbours.orNeighbours(grid);
+        
+        assertEquals(neighbours.cardinality(), 4);
+        assertTrue(neighbours.get(64, 1));
+        assertTrue(neighbours.get(62, 1));
+        assertTrue(neighbours.get(63, 0));
+        assertTrue(neighbours.get(63, 2));
+        
+        neighbours.or(grid);
+        assertEquals(neighbours.cardinality(), 5);
+        neighbours.andNot(grid);
+        assertEquals(neighbours.cardinality(), 4);
+        neighbours.and(grid);
+        assertEquals(neighbours.cardinality(), 0);
+        assertThrows(IllegalArgumentException.class, () -> grid.orShifted(grid, 1, 0));
+        assertThrows(IllegalArgumentException.class, () -> grid.or(new BitGrid(71, 3)));
+    }
+}
@@ -0,0 +1,59 @@
+package aoc.common;
+
+import org.testng.annotations.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.NoSuchElementException;
+
+import static org.testng.Assert.*;
+
+public class CharScannerTest {
+    @Test
+    public void testSignedNumbers() {
+        final var scanner = new CharScanner("Sensor at x=-2, y=15: closest beacon is at x=10, y=-16");
+        
+        assertEquals(scanner.nextInt(), -2);
+        assertEquals(scanner.nextInt(), 15);
+        assertEquals(scanner.nextInt(), 10);
+        assertEquals(scanner.nextInt(), -16);
+        assertFalse(scanner.hasNextNumber());
+        assertThrows(NoSuchElementException.class, scanner::nextInt);
+    }
+    
+    @Test
+    public void testLongAndOverflow() {
+        assertEquals(new CharScanner("root: 3296135418820").nextLong(), 3296135418820L);
+        assertThrows(ArithmeticException.class, () -> new CharScanner("3296135418820").nextInt());
+    }
+    
+    @Test
+    public void testWords() {
+        final var scanner = new CharScanner("Valve AA has flow rate=13; tunnels lead to valves DD, II");
+        
+        assertEquals(scanner.skipWords(1).nextWord().toString(), "AA");
+        assertEquals(scanner.nextInt(), 13);
+        assertEquals(scanner.skipPast(';').skipWords(4).nextWord().toString(), "DD");
+        assertEquals(scanner.nextWord().toString(), "II");
+        assertFalse(scanner.hasNextWord());
+    }
+    
+    @Test
+    public void testResetAndInts() {
+        final var scanner = new CharScanner("move 1 from 2 to 1");
+        
+        assertEquals(CharScanner.ints("move 13 from 2 to 9"), new int[]{13, 2, 9});
+        assertEquals(CharScanner.ints("no numbers"), new int[0]);
+        assertEquals(scanner.nextInt(), 1);
+        assertEquals(scanner.reset("x=7").nextInt(), 7);
+    }
+    
+    @Test
+    public void testInputLine() {
+        final var input   = Input.wrap("Blueprint 1: 4 ore\nBlueprint 2: 3 ore\n".getBytes(StandardCharsets.US_ASCII));
+        final var scanner = new CharScanner(input.line(1));
+        
+        assertEquals(scanner.nextInt(), 2);
+        assertEquals(scanner.nextInt(), 3);
+        assertEquals(scanner.nextWord().toString(), "ore");
+    }
+}
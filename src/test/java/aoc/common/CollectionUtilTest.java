@@ -0,0 +1,46 @@
+package aoc.common;
+
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.testng.Assert.*;
+
+public class CollectionUtilTest {
+    @Test
+    public void testPartition() {
+        final var list       = List.of(1, 2, 3, 4, 5, 6, 7);
+        final var partitions = CollectionUtil.partition(list, 3);
+        
+        assertEquals(partitions, List.of(List.of(1, 2, 3), List.of(4, 5, 6), List.of(7)));
+        assertEquals(CollectionUtil.partition(List.of(), 3).size(), 0);
+        assertThrows(IllegalArgumentException.class, () -> CollectionUtil.partition(list, 0));
+    }
+    
+    @Test
+    public void testRecords() {
+        final var lines   = List.of("", "a", "b", "", "", "c", "");
+        final var records = CollectionUtil.records(lines).toList();
+        
+        assertEquals(records, List.of(List.of("a", "b"), List.of("c")));
+    }
+    
+    @Test
+    public void testParallelStreamsKeepBoundaries() {
+        final var lines    = new ArrayList<String>();
+        final var expected = new ArrayList<List<String>>();
+        
+        for (var i = 0; i < 1000; i++) {
+            final var record = IntStream.rangeClosed(0, i % 5).mapToObj(j -> "r%d".formatted(j)).toList();
+            lines.addAll(record);
+            lines.add("");
+            expected.add(record);
+        }
+        
+        assertEquals(CollectionUtil.records(lines).parallel().collect(Collectors.toList()), expected);
+        assertEquals(CollectionUtil.chunks(lines, 7).parallel().mapToInt(List::size).sum(), lines.size());
+    }
+}
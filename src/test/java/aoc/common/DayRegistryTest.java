@@ -0,0 +1,40 @@
+package aoc.common;
+
+import aoc.days.Day01;
+import org.testng.annotations.Test;
+
+import java.util.ServiceLoader;
+import java.util.stream.Collectors;
+
+import static org.testng.Assert.*;
+
+public class DayRegistryTest {
+    @Test
+    public void testMatchesServiceLoader() {
+        final var providers = ServiceLoader.load(Day.class)
+                                           .stream()
+                                           .map(provider -> provider.type().getName())
+                                           .collect(Collectors.toSet());
+        final var registered = DayRegistry.days()
+                                          .stream()
+                                          .map(DayRegistry::getClassName)
+                                          .collect(Collectors.toSet());
+        
+        assertEquals(registered, providers);
+        assertEquals(DayRegistry.days().size(), 25);
+    }
+    
+    @Test
+    public void testCreate() {
+        assertTrue(DayRegistry.create(1) instanceof Day01);
+        assertNotSame(DayRegistry.create(1), DayRegistry.create(1));
+        assertThrows(IllegalArgumentException.class, () -> DayRegistry.create(26));
+    }
+    
+    @Test
+    public void testCreateStrategy() {
+        assertTrue(DayRegistry.create(1, Day.REFERENCE) instanceof Day01);
+        assertNotSame(DayRegistry.create(20, "blocks").getClass(), DayRegistry.create(20, Day.REFERENCE).getClass());
+        assertThrows(IllegalArgumentException.class, () -> DayRegistry.create(1, "blocks"));
+    }
+}
@@ -0,0 +1,107 @@
+package aoc.common;
+
+import org.testng.annotations.Test;
+
+import java.util.ArrayDeque;
+import java.util.NoSuchElementException;
+
+import static org.testng.Assert.*;
+
+public class GraphSearchTest {
+    // A line 0 - 1 - 2 - ... - 9
+    private static final GraphSearch.Neighbours LINE = (node, out) -> {
+        var count = 0;
+        if (node > 0) {
+            out[count++] = node - 1;
+        }
+        if (node < 9) {
+            out[count++] = node + 1;
+        }
+        return count;
+    };
+    
+    @Test
+    public void testIntQueueMatchesDeque() {
+        final var queue    = new IntQueue(2);
+        final var expected = new ArrayDeque<Integer>();
+        
+        for (var i = 0; i < 1000; i++) {
+            queue.add(i);
+            expected.add(i);
+            if (i % 3 == 0) {
+                assertEquals(queue.poll(), expected.poll().intValue());
+            }
+        }
+        assertEquals(queue.size(), expected.size());
+        while (!expected.isEmpty()) {
+            assertEquals(queue.poll(), expected.poll().intValue());
+        }
+        assertThrows(NoSuchElementException.class, queue::poll);
+    }
+    
+    @Test
+    public void testBucketQueue() {
+        final var queue = new BucketQueue(3);
+        
+        queue.add(10, 2);
+        queue.add(11, 0);
+        queue.add(12, 3);
+        assertEquals(queue.poll(), 11);
+        assertEquals(queue.poll(), 10);
+        assertEquals(queue.priority(), 2);
+        assertThrows(IllegalArgumentException.class, () -> queue.add(13, 1));
+        assertEquals(queue.poll(), 12);
+        assertTrue(queue.isEmpty());
+    }
+    
+    @Test
+    public void testBfsMultiSourceAndReuse() {
+        final var search = new GraphSearch(10, 2);
+        
+        search.bfs(LINE, 0, 9);
+        assertEquals(search.distance(4), 4);
+        assertEquals(search.distance(6), 3);
+        
+        assertEquals(search.bfs(LINE, node -> node == 3, 5), 3);
+        assertEquals(search.distance(3), 2);
+        assertFalse(search.visited(9));
+        assertEquals(search.distance(9), -1);
+        assertEquals(search.bfs(LINE, node -> node > 9, 5), -1);
+    }
+    
+    @Test
+    public void testDijkstra() {
+        final var search = new GraphSearch(10, 2);
+        
+        // A ring where going right costs 1 and going left costs 3, except for the shortcut 0 -> 9.
+        final GraphSearch.WeightedNeighbours ring = (node, out, weights) -> {
+            out[0] = (node + 1) % 10;
+            weights[0] = 1;
+            out[1] = (node + 9) % 10;
+            weights[1] = node == 0 ? 1 : 3;
+            return 2;
+        };
+        
+        assertEquals(search.dijkstra(ring, 3, node -> node == 7, 2), 7);
+        assertEquals(search.distance(7), 5);
+        
+        assertEquals(search.dijkstra(ring, 3, node -> false, 2), -1);
+        assertEquals(search.distance(1), 3);
+        assertEquals(search.distance(9), 7);
+        assertEquals(search.distance(8), 6);
+        
+        // Reuses the search with larger weights, which replaces the bucket queue.
+        final GraphSearch.WeightedNeighbours line = (node, out, weights) -> {
+            final var count = LINE.get(node, out);
+            for (var i = 0; i < count; i++) {
+                weights[i] = 5;
+            }
+            return count;
+        };
+        
+        assertEquals(search.dijkstra(line, 5, node -> node == 0, 4), 0);
+        assertEquals(search.distance(0), 20);
+        assertEquals(search.dijkstra(ring, 3, node -> node == 7, 2), 7);
+        assertEquals(search.distance(7), 5);
+    }
+}
@@ -0,0 +1,60 @@
+package aoc.common;
+
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.testng.Assert.*;
+
+public class GridTest {
+    @Test
+    public void testIndexRoundTrip() {
+        final var grid = new IntGrid(5, 3, 2, 0);
+        
+        assertEquals(grid.stride(), 9);
+        assertEquals(grid.length(), 9 * 7);
+        for (var y = -2; y < 5; y++) {
+            for (var x = -2; x < 7; x++) {
+                final var index = grid.index(x, y);
+                
+                assertEquals(grid.x(index), x);
+                assertEquals(grid.y(index), y);
+            }
+        }
+        assertEquals(grid.index(1, 1) + grid.offset(2, -1), grid.index(3, 0));
+    }
+    
+    @Test
+    public void testParsePadding() {
+        final var grid = CharGrid.parse(List.of("ab", "c"), 1, ' '); //NON-NLS
+        
+        assertEquals(grid.width(), 2);
+        assertEquals(grid.height(), 2);
+        assertEquals(grid.get(0, 0), 'a');
+        assertEquals(grid.get(1, 1), ' ');
+        assertEquals(grid.get(-1, -1), ' ');
+        assertEquals(grid.toString(), "    \n ab \n c  \n    \n"); //NON-NLS
+        
+        final var digits = ByteGrid.parse(List.of("12", "34"), 0, (byte) 0, c -> c - '0'); //NON-NLS
+        
+        assertEquals(digits.get(1, 1), 4);
+        assertEquals(digits.count((byte) 4), 1);
+    }
+    
+    @Test
+    public void testNeighbours() {
+        final var unpadded   = new ByteGrid(3, 3, 0, (byte) 0);
+        final var neighbours = new ArrayList<Integer>();
+        
+        unpadded.forEachNeighbour(unpadded.index(0, 0), neighbours::add);
+        assertEquals(neighbours, List.of(unpadded.index(0, 1), unpadded.index(1, 0)));
+        
+        final var padded = new ByteGrid(3, 3, 1, (byte) 0);
+        
+        neighbours.clear();
+        padded.forEachNeighbour(padded.index(0, 0), neighbours::add);
+        assertEquals(neighbours, List.of(padded.index(0, 1), padded.index(1, 0), padded.index(0, -1),
+                                         padded.index(-1, 0)));
+    }
+}
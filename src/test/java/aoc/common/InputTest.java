@@ -0,0 +1,54 @@
+package aoc.common;
+
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.List;
+
+import static org.testng.Assert.*;
+
+public class InputTest {
+    @Test
+    public void testMappedLinesMatchReadAllLines() throws IOException {
+        for (var day = 1; day <= 25; day++) {
+            final var path = Paths.get("resources", "day%02d.test.txt".formatted(day)); //NON-NLS
+            
+            assertEquals(Input.map(path).lines(), Files.readAllLines(path), "Day %d".formatted(day));
+        }
+    }
+    
+    @Test
+    public void testLineEndings() throws IOException {
+        final var path = Files.createTempFile("input", ".txt"); //NON-NLS
+        
+        try {
+            Files.writeString(path, "a\r\n\r\nbc\n", StandardCharsets.US_ASCII); //NON-NLS
+            
+            assertEquals(Input.map(path).lines(), List.of("a", "", "bc"), "CRLF");
+        } finally {
+            Files.delete(path);
+        }
+    }
+    
+    @Test
+    public void testTrailingEmptyLine() {
+        assertEquals(Input.of(List.of("")).lines(), List.of(""), "Only an empty line");
+        assertEquals(Input.of(List.of("a", "", "")).lines(), List.of("a", "", ""), "Empty last lines"); //NON-NLS
+        assertEquals(Input.of(List.of()).size(), 0, "No lines");
+    }
+    
+    @Test
+    public void testLineView() {
+        final var input = Input.of(List.of("first", "second line")); //NON-NLS
+        final var line  = input.line(1);
+        
+        assertEquals(input.size(), 2, "Size");
+        assertEquals(line.length(), 11, "Length");
+        assertEquals(line.charAt(7), 'l', "Char");
+        assertEquals(line.subSequence(7, 11).toString(), "line", "Sub sequence");
+        assertEquals(Integer.parseInt(Input.of(List.of("x=-42")).line(0), 2, 5, 10), -42, "Parse");
+    }
+}
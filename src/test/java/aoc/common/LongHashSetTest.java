@@ -0,0 +1,88 @@
+package aoc.common;
+
+import org.testng.annotations.Test;
+
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Random;
+
+import static org.testng.Assert.*;
+
+public class LongHashSetTest {
+    @Test
+    public void testPackUnpack() {
+        for (final var point : new Point[]{new Point(0, 0), new Point(-1, 5), new Point(7, -3), new Point(-9, -9)}) {
+            final var packed = point.pack();
+            
+            assertEquals(Point.unpackX(packed), point.getX());
+            assertEquals(Point.unpackY(packed), point.getY());
+            assertEquals(Point.unpack(packed), point);
+        }
+        assertNotEquals(Point.pack(0, -1), Point.pack(-1, 0));
+    }
+    
+    @Test
+    public void testQueueMatchesDeque() {
+        final var queue    = new LongQueue(2);
+        final var expected = new ArrayDeque<Long>();
+        
+        for (var i = 0; i < 1000; i++) {
+            final var value = Point.pack(i, -i);
+            
+            queue.add(value);
+            expected.add(value);
+            if (i % 3 == 0) {
+                assertEquals(queue.poll(), expected.poll().longValue());
+            }
+        }
+        assertEquals(queue.size(), expected.size());
+        while (!expected.isEmpty()) {
+            assertEquals(queue.poll(), expected.poll().longValue());
+        }
+        assertTrue(queue.isEmpty());
+    }
+    
+    @Test
+    public void testSetMatchesHashSet() {
+        final var random   = new Random(42);
+        final var set      = new LongHashSet();
+        final var expected = new HashSet<Long>();
+        
+        for (var i = 0; i < 100_000; i++) {
+            final var key = Point.pack(random.nextInt(64) - 32, random.nextInt(64) - 32);
+            
+            if (random.nextInt(3) == 0) {
+                assertEquals(set.remove(key), expected.remove(key), "remove %d".formatted(key));
+            } else {
+                assertEquals(set.add(key), expected.add(key), "add %d".formatted(key));
+            }
+        }
+        
+        assertEquals(set.size(), expected.size());
+        for (final var key : expected) {
+            assertTrue(set.contains(key));
+        }
+        assertEquals(set.toArray().length, expected.size());
+    }
+    
+    @Test
+    public void testMapMatchesHashMap() {
+        final var random   = new Random(42);
+        final var map      = new LongIntHashMap();
+        final var expected = new HashMap<Long, Integer>();
+        
+        for (var i = 0; i < 100_000; i++) {
+            final var key = Point.pack(random.nextInt(64) - 32, random.nextInt(64) - 32);
+            
+            if (random.nextInt(3) == 0) {
+                assertEquals(map.remove(key), expected.remove(key) != null, "remove %d".formatted(key));
+            } else {
+                assertEquals(map.addTo(key, 1), (int) expected.merge(key, 1, Integer::sum), "addTo %d".formatted(key));
+            }
+        }
+        
+        assertEquals(map.size(), expected.size());
+        map.forEach((key, value) -> assertEquals(value, (int) expected.get(key)));
+    }
+}
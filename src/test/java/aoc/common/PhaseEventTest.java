@@ -0,0 +1,40 @@
+package aoc.common;
+
+import aoc.days.Day24;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordingFile;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.testng.Assert.*;
+
+public class PhaseEventTest {
+    @Test
+    public void testPhasesRecorded() throws IOException {
+        final var input = Files.readAllLines(Paths.get("resources", "day24.test.txt"));
+        final var file  = Files.createTempFile("phases", ".jfr");
+        
+        try (final var recording = new Recording()) {
+            recording.enable("aoc.Phase");
+            recording.start();
+            
+            assertEquals(new Day24().prepare(input).part1(), 18, "Part 1");
+            
+            recording.stop();
+            recording.dump(file);
+        }
+        
+        final var phases = RecordingFile.readAllEvents(file)
+                                        .stream()
+                                        .filter(event -> event.getString("day").equals("Day24"))
+                                        .map(event -> event.getString("phase"))
+                                        .collect(Collectors.toSet());
+        
+        assertTrue(phases.containsAll(List.of("parse", "blizzards", "search")), phases.toString());
+    }
+}
@@ -0,0 +1,66 @@
+package aoc.common;
+
+import aoc.days.Day23;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.testng.Assert.*;
+
+public class SolveContextTest {
+    @Test
+    public void testBindsAndRestoresCurrent() {
+        final var outer = SolveContext.current();
+        final var inner = new SolveContext(null, null);
+        
+        assertSame(inner.call(SolveContext::current), inner);
+        assertSame(SolveContext.current(), outer);
+        
+        outer.checkpoint();
+        outer.progress("states", 1L);
+    }
+    
+    @Test
+    public void testCancel() {
+        final var context = new SolveContext(null, null);
+        
+        context.checkpoint();
+        context.cancel();
+        
+        assertTrue(context.isCancelled());
+        assertThrows(SolveCancelledException.class, context::checkpoint);
+    }
+    
+    @Test
+    public void testDeadlineStopsDay() throws IOException {
+        final var input    = Files.readAllLines(Paths.get("resources", "day23.test.txt"));
+        final var prepared = new Day23().prepare(input);
+        
+        assertEquals(prepared.part2(new SolveContext(Duration.ofMinutes(1L), null)), 20, "Part 2");
+        assertThrows(SolveCancelledException.class, () -> prepared.part2(new SolveContext(Duration.ZERO, null)));
+    }
+    
+    @Test
+    public void testProgressIsThrottled() throws InterruptedException {
+        final var reports = new ArrayList<Long>();
+        final var context = new SolveContext(null, (metric, value) -> reports.add(value));
+        
+        context.progress("rounds", 1L);
+        assertTrue(reports.isEmpty());
+        
+        Thread.sleep(600L);
+        context.progress("rounds", 2L);
+        context.progress("rounds", 3L);
+        assertEquals(reports, List.of(2L));
+        
+        Thread.sleep(600L);
+        context.progress("states", 4L, "frontier", 5L);
+        context.progress("states", 6L, "frontier", 7L);
+        assertEquals(reports, List.of(2L, 4L, 5L));
+    }
+}
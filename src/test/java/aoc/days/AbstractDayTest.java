@@ -1,20 +1,42 @@
 package aoc.days;
 
+import aoc.common.Input;
+
 import java.io.IOException;
 import java.io.UncheckedIOException;
 import java.nio.file.Files;
+import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.List;
 
 abstract class AbstractDayTest {
     static List<String> getInput(final int day) {
-        final var paddedDay = String.format("%02d", day); //NON-NLS
-        final var path      = Paths.get("resources", "day" + paddedDay + ".test.txt");
-        
         try {
-            return Files.readAllLines(path);
+            return Files.readAllLines(getInputPath(day));
         } catch (final IOException e) {
             throw new UncheckedIOException(e);
         }
     }
+    
+    static Input getMappedInput(final int day) {
+        try {
+            return Input.map(getInputPath(day));
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+    
+    static Path getInputPath(final int day) {
+        return getPath(day, ".test.txt");
+    }
+    
+    static Path getRealInputPath(final int day) {
+        return getPath(day, ".txt");
+    }
+    
+    private static Path getPath(final int day, final String suffix) {
+        final var paddedDay = String.format("%02d", day); //NON-NLS
+        
+        return Paths.get("resources", "day" + paddedDay + suffix);
+    }
 }
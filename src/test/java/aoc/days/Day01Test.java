@@ -2,6 +2,8 @@ package aoc.days;
 
 import org.testng.annotations.Test;
 
+import java.util.List;
+
 import static org.testng.Assert.*;
 
 public class Day01Test extends AbstractDayTest {
@@ -20,4 +22,35 @@ public class Day01Test extends AbstractDayTest {
         
         assertEquals(day.part2(data), 45000, "Part 2");
     }
-}
\ No newline at end of file
+    
+    @Test
+    public void testPart1Mapped() {
+        final var data = getMappedInput(1);
+        final var day  = new Day01();
+        
+        assertEquals(day.part1(data), 24000, "Part 1");
+    }
+    
+    @Test
+    public void testPart2Mapped() {
+        final var data = getMappedInput(1);
+        final var day  = new Day01();
+        
+        assertEquals(day.part2(data), 45000, "Part 2");
+    }
+    
+    @Test
+    public void testStreamed() {
+        final var prepared = new Day01().prepare(getInputPath(1));
+        
+        assertEquals(prepared.part1(), 24000, "Part 1");
+        assertEquals(prepared.part2(), 45000, "Part 2");
+    }
+    
+    @Test
+    public void testBlankSeparator() {
+        final var day = new Day01();
+        
+        assertEquals(day.part1(List.of("1", "2", " \t", "4")), 4, "Part 1");
+    }
+}
@@ -20,4 +20,20 @@ public class Day06Test extends AbstractDayTest {
 
         assertEquals(day.part2(data), 19, "Part 2");
     }
+
+    @Test
+    public void testPart1Mapped() {
+        final var data = getMappedInput(6);
+        final var day  = new Day06();
+
+        assertEquals(day.part1(data), 7, "Part 1");
+    }
+
+    @Test
+    public void testPart2Mapped() {
+        final var data = getMappedInput(6);
+        final var day  = new Day06();
+
+        assertEquals(day.part2(data), 19, "Part 2");
+    }
 }
@@ -1,7 +1,10 @@
 package aoc.days;
 
+import aoc.common.Day;
 import org.testng.annotations.Test;
 
+import java.util.Set;
+
 import static org.testng.Assert.*;
 
 public class Day20Test extends AbstractDayTest {
@@ -20,4 +23,16 @@ public class Day20Test extends AbstractDayTest {
 
         assertEquals(day.part2(data), 1623178306L, "Part 2");
     }
+
+    @Test
+    public void testStrategiesAgree() {
+        final var data       = getInput(20);
+        final var strategies = new Day20().strategies();
+
+        assertEquals(strategies.keySet(), Set.of(Day.REFERENCE, Day20.BlockMixer.NAME));
+        for (final var strategy : strategies.values()) {
+            assertEquals(strategy.part1(data), 3L, "Part 1 %s".formatted(strategy));
+            assertEquals(strategy.part2(data), 1623178306L, "Part 2 %s".formatted(strategy));
+        }
+    }
 }
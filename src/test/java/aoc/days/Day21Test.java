@@ -20,4 +20,13 @@ public class Day21Test extends AbstractDayTest {
 
         assertEquals(day.part2(data), 301L, "Part 2");
     }
+
+    @Test
+    public void testPartsIndependent() {
+        final var data = getInput(21);
+
+        // Part 2 used to leave its results in a static store, which broke part 1 afterwards.
+        assertEquals(new Day21().part2(data), 301L, "Part 2");
+        assertEquals(new Day21().part1(data), 152L, "Part 1");
+    }
 }
@@ -0,0 +1,126 @@
+package aoc.days;
+
+import aoc.common.Day;
+import aoc.common.DayRegistry;
+import aoc.common.Input;
+import aoc.common.StreamingDay;
+import aoc.generators.Generators;
+import org.testng.Reporter;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.management.ManagementFactory;
+import java.util.Properties;
+
+import static org.testng.Assert.*;
+
+/**
+ * Runs the days on their real input (or a generated or the sample one) and checks the fastest run against the budgets
+ * in {@code performance-budgets.properties}, so a change that makes a day much slower or allocate much more fails.
+ */
+public class PerformanceBudgetTest {
+    private static final com.sun.management.ThreadMXBean THREAD_MX_BEAN =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+    
+    private static final Properties BUDGETS = loadBudgets();
+    
+    @DataProvider
+    public Object[][] days() {
+        return DayRegistry.days()
+                          .stream()
+                          .filter(day -> BUDGETS.containsKey("day%02d.wallMillis".formatted(day)))
+                          .map(day -> new Object[]{day})
+                          .toArray(Object[][]::new);
+    }
+    
+    @Test(dataProvider = "days", groups = "performance")
+    public void testBudget(final int day) {
+        final var prefix    = "day%02d.".formatted(day);
+        final var warmup    = Integer.parseInt(BUDGETS.getProperty("warmup"));
+        final var runs      = Integer.parseInt(BUDGETS.getProperty("runs"));
+        final var wallLimit = Long.parseLong(BUDGETS.getProperty(prefix + "wallMillis")) * 1_000_000L;
+        final var memLimit  = Long.parseLong(BUDGETS.getProperty(prefix + "allocatedMegabytes")) * 1024L * 1024L;
+        final var generated = generate(day, prefix);
+        
+        for (var i = 0; i < warmup; i++) {
+            solve(day, generated);
+        }
+        
+        var wallTime  = Long.MAX_VALUE;
+        var allocated = Long.MAX_VALUE;
+        
+        for (var i = 0; i < runs; i++) {
+            final var allocatedStart = THREAD_MX_BEAN.getCurrentThreadAllocatedBytes();
+            final var wallStart      = System.nanoTime();
+            
+            solve(day, generated);
+            
+            wallTime = Math.min(wallTime, System.nanoTime() - wallStart);
+            allocated = Math.min(allocated, THREAD_MX_BEAN.getCurrentThreadAllocatedBytes() - allocatedStart);
+        }
+        
+        final var report = "Day %d: %.1f ms (budget %d ms), %.1f MB allocated (budget %d MB)".formatted(
+                day, wallTime / 1_000_000.0, wallLimit / 1_000_000L, allocated / (1024.0 * 1024.0),
+                memLimit / (1024L * 1024L));
+        Reporter.log(report, true);
+        
+        assertTrue(wallTime <= wallLimit, report);
+        assertTrue(allocated <= memLimit, report);
+    }
+    
+    /**
+     * Gets the generated input of a day (its first {@code dayNN.lines} lines, if set), or the real input (or with
+     * {@code dayNN.sample} the sample) as null.
+     */
+    private static Input generate(final int day, final String prefix) {
+        final var scale = BUDGETS.getProperty(prefix + "scale");
+        
+        if (scale == null) {
+            return null;
+        }
+        
+        final var lines = Generators.get(day).generate(Integer.parseInt(scale), 2022L);
+        final var limit = BUDGETS.getProperty(prefix + "lines");
+        
+        return Input.of(limit == null ? lines : lines.subList(0, Math.min(lines.size(), Integer.parseInt(limit))));
+    }
+    
+    private static void solve(final int day, final Input generated) {
+        final var instance = DayRegistry.create(day);
+        final var prepared = prepare(day, instance, generated);
+        
+        assertNotNull(prepared.part1(), "Part 1");
+        assertNotNull(prepared.part2(), "Part 2");
+    }
+    
+    private static Day.Prepared prepare(final int day, final Day instance, final Input generated) {
+        if (generated != null) {
+            return instance.prepare(generated);
+        }
+        
+        final var sample = Boolean.parseBoolean(BUDGETS.getProperty("day%02d.sample".formatted(day)));
+        final var path   = sample ? AbstractDayTest.getInputPath(day) : AbstractDayTest.getRealInputPath(day);
+        
+        try {
+            return instance instanceof StreamingDay streamingDay
+                   ? streamingDay.prepare(path)
+                   : instance.prepare(Input.map(path));
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+    
+    private static Properties loadBudgets() {
+        final var properties = new Properties();
+        
+        try (final var stream = PerformanceBudgetTest.class.getResourceAsStream("/performance-budgets.properties")) {
+            properties.load(stream);
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        
+        return properties;
+    }
+}
@@ -0,0 +1,54 @@
+package aoc.generators;
+
+import aoc.days.Day01;
+import aoc.days.Day06;
+import aoc.days.Day09;
+import aoc.days.Day12;
+import aoc.days.Day21;
+import aoc.days.Day25;
+import org.testng.annotations.Test;
+
+import static org.testng.Assert.*;
+
+public class GeneratorsTest {
+    @Test
+    public void testDeterministic() {
+        for (final var day : Generators.days()) {
+            final var generator = Generators.get(day);
+            
+            assertEquals(generator.generate(1, 42L), generator.generate(1, 42L), "day %d".formatted(day));
+            assertNotEquals(generator.generate(1, 42L), generator.generate(1, 43L), "day %d".formatted(day));
+        }
+    }
+    
+    @Test
+    public void testScaleGrowsInput() {
+        final var small = Generators.get(9).generate(1, 42L);
+        final var large = Generators.get(9).generate(4, 42L);
+        
+        assertEquals(large.size(), 4 * small.size());
+    }
+    
+    @Test
+    public void testScaleGrowsAnswer() {
+        final var small = (Integer) new Day06().part1(Generators.get(6).generate(1, 42L));
+        final var large = (Integer) new Day06().part1(Generators.get(6).generate(4, 42L));
+        
+        assertTrue(large > 3 * small, "day 6 part 1: %d at scale 1, %d at scale 4".formatted(small, large));
+    }
+    
+    @Test
+    public void testSolvable() {
+        assertNotNull(new Day01().part2(Generators.get(1).generate(2, 42L)));
+        assertNotNull(new Day09().part2(Generators.get(9).generate(2, 42L)));
+        assertTrue((Integer) new Day12().part1(Generators.get(12).generate(2, 42L)) > 0);
+        assertTrue((Long) new Day21().part2(Generators.get(21).generate(2, 42L)) > 0);
+        assertNotNull(new Day25().part1(Generators.get(25).generate(2, 42L)));
+    }
+    
+    @Test
+    public void testInvalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> Generators.get(1).generate(0, 42L));
+        assertThrows(IllegalArgumentException.class, () -> Generators.get(26));
+    }
+}